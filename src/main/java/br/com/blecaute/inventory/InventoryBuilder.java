@@ -6,14 +6,24 @@ import br.com.blecaute.inventory.enums.ButtonType;
 import br.com.blecaute.inventory.exception.InventoryBuilderException;
 import br.com.blecaute.inventory.format.InventoryFormat;
 import br.com.blecaute.inventory.format.PaginatedFormat;
+import br.com.blecaute.inventory.format.impl.AnimatedItemFormat;
 import br.com.blecaute.inventory.format.impl.PaginatedItemFormat;
 import br.com.blecaute.inventory.format.impl.PaginatedObjectFormat;
 import br.com.blecaute.inventory.format.impl.SimpleObjectFormat;
 import br.com.blecaute.inventory.format.impl.SimpleItemFormat;
 import br.com.blecaute.inventory.property.InventoryProperty;
+import br.com.blecaute.inventory.render.InventoryRenderer;
+import br.com.blecaute.inventory.render.RenderScheduler;
+import br.com.blecaute.inventory.render.SlotLayout;
+import br.com.blecaute.inventory.render.SlotAnimation;
+import br.com.blecaute.inventory.source.AsyncPageSource;
+import br.com.blecaute.inventory.source.IteratorPageSource;
+import br.com.blecaute.inventory.source.ListPageSource;
+import br.com.blecaute.inventory.source.ObservableList;
+import br.com.blecaute.inventory.source.PageSource;
 import br.com.blecaute.inventory.type.InventoryItem;
+import br.com.blecaute.inventory.type.ThreadSafeItem;
 import lombok.AccessLevel;
-import lombok.Data;
 import lombok.Getter;
 import org.apache.commons.lang3.tuple.Pair;
 import org.bukkit.Bukkit;
@@ -27,20 +37,33 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.stream.Stream;
 
 /**
  * A simple class for building of @{@link Inventory}.
+ *
+ * <p>It can be changed from any thread, but the changes are applied in the main thread
+ * in the order they were made. The methods that return a value, such as @{@link #toTemplate()},
+ * @{@link #clone()} and @{@link #build(Player...)}, wait for the previous changes.</p>
+ *
  * @param <T> The type of @{@link InventoryBuilder}
  */
 @Getter
 public class InventoryBuilder<T extends InventoryItem> implements Cloneable {
 
     @Getter(AccessLevel.NONE) private final String inventoryName;
+    @Getter(AccessLevel.NONE) private final int size;
+
     @Getter(AccessLevel.NONE) private Inventory inventory;
+    @Getter(AccessLevel.NONE) private InventoryRenderer renderer;
 
     @Getter(AccessLevel.NONE) private Function<Integer, Boolean> skipFunction;
+    @Getter(AccessLevel.NONE) private SlotLayout layout;
 
     private int startSlot = 0;
     private int exitSlot;
@@ -48,9 +71,27 @@ public class InventoryBuilder<T extends InventoryItem> implements Cloneable {
     private int pageSize = 0;
     private int currentPage = 1;
 
-    private InventoryProperty properties = new InventoryProperty();
-    private Map<ButtonType, Pair<Integer, ItemStack>> buttons = new EnumMap<>(ButtonType.class);
-    private Set<InventoryFormat<T>> formats = new LinkedHashSet<>();
+    private int pageCache = 0;
+
+    @Nullable private ItemStack placeholder;
+
+    private InventoryProperty properties;
+    private Map<ButtonType, Pair<Integer, ItemStack>> buttons;
+    private Set<InventoryFormat<T>> formats;
+
+    @Nullable private Executor callbackExecutor;
+
+    private long clickInterval = 0;
+    private int pageDebounce = 0;
+
+    private boolean pooled;
+    private boolean parallelRendering;
+
+    @Getter(AccessLevel.NONE) private int pendingPages;
+    @Getter(AccessLevel.NONE) private boolean debouncing;
+
+    @Getter(AccessLevel.NONE) private boolean shared;
+    @Getter(AccessLevel.NONE) private boolean exposed;
 
     /**
      * Create instance of @{@link InventoryBuilder}
@@ -63,10 +104,38 @@ public class InventoryBuilder<T extends InventoryItem> implements Cloneable {
             throw new InventoryBuilderException("The InventoryHelper must be enabled");
         }
 
-        int size = Math.min(6, Math.max(1, lines)) * 9;
+        this.size = Math.min(6, Math.max(1, lines)) * 9;
         this.inventoryName = name.replace("&", "§");
         this.exitSlot = size;
-        this.inventory = createInventory(size);
+        this.properties = new InventoryProperty();
+        this.buttons = new EnumMap<>(ButtonType.class);
+        this.formats = new LinkedHashSet<>();
+    }
+
+    /**
+     * Create a session of @{@link MenuTemplate}
+     *
+     * @param template The @{@link MenuTemplate}
+     */
+    InventoryBuilder(@NotNull MenuTemplate<T> template) {
+        this.inventoryName = template.getName();
+        this.size = template.getSize();
+        this.skipFunction = template.getSkipFunction();
+        this.layout = template.getLayout();
+        this.startSlot = template.getStartSlot();
+        this.exitSlot = template.getExitSlot();
+        this.pageSize = template.getPageSize();
+        this.pageCache = template.getPageCache();
+        this.placeholder = template.getPlaceholder();
+        this.properties = template.getProperties();
+        this.buttons = template.getButtons();
+        this.formats = template.getFormats();
+        this.callbackExecutor = template.getCallbackExecutor();
+        this.clickInterval = template.getClickInterval();
+        this.pageDebounce = template.getPageDebounce();
+        this.pooled = template.isPooled();
+        this.parallelRendering = template.isParallelRendering();
+        this.shared = true;
     }
 
     /**
@@ -76,8 +145,113 @@ public class InventoryBuilder<T extends InventoryItem> implements Cloneable {
      * @return This @{@link InventoryBuilder}
      */
     public InventoryBuilder<T> withPageSize(int size)  {
-        this.pageSize = size;
-        return this;
+        return apply(() -> this.pageSize = size);
+    }
+
+    /**
+     * Set number of pages kept in cache by each paginated format.
+     * When enabled, the pages next to the current page are loaded ahead
+     * of time, so the page buttons don't need to load them again.
+     *
+     * <p>The items rendered for the cached pages are reused by @{@link #format()}
+     * while the properties are equal, without calling @{@link InventoryItem#getItem}.
+     * The cached pages must be invalidated with @{@link #invalidatePages()}
+     * when the objects change, or with @{@link #update(InventoryItem)} for a single object.</p>
+     *
+     * @param pages The number of pages, or 0 to disable the cache
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> withPageCache(int pages) {
+        return apply(() -> this.pageCache = pages);
+    }
+
+    /**
+     * Set the current page.
+     *
+     * @param page The page
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> withPage(int page) {
+        return apply(() -> this.currentPage = Math.max(1, page));
+    }
+
+    /**
+     * Set item displayed in the paginated slots while
+     * the page of an @{@link AsyncPageSource} is loading.
+     *
+     * @param placeholder The @{@link ItemStack}
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> withPlaceholder(@Nullable ItemStack placeholder) {
+        return apply(() -> this.placeholder = placeholder);
+    }
+
+    /**
+     * Run the click callbacks in the default executor of @{@link InventoryHelper},
+     * which uses virtual threads when the JDK supports them.
+     *
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> withAsyncCallbacks() {
+        return withAsyncCallbacks(InventoryHelper.getCallbackExecutor());
+    }
+
+    /**
+     * Run the click callbacks in the executor instead of the main thread.
+     *
+     * <p>The click event is already cancelled when the callback runs, and the changes
+     * made in this builder are executed in the main thread. A new click in the slot
+     * is ignored while its callback is still running.</p>
+     *
+     * @param executor The @{@link Executor}, or null to run them in the main thread
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> withAsyncCallbacks(@Nullable Executor executor) {
+        return apply(() -> this.callbackExecutor = executor);
+    }
+
+    /**
+     * Set the minimum interval between two clicks in the same slot.
+     * The page buttons are limited by @{@link #withPageDebounce(int)} instead.
+     *
+     * @param millis The interval in milliseconds, or 0 to disable it
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> withClickInterval(long millis) {
+        return apply(() -> this.clickInterval = millis);
+    }
+
+    /**
+     * Set the window in which the clicks in page buttons are merged.
+     * All clicks in the window result in a single page jump and render.
+     *
+     * @param ticks The window in ticks, or 0 to render each click
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> withPageDebounce(int ticks) {
+        return apply(() -> this.pageDebounce = ticks);
+    }
+
+    /**
+     * Reuse the closed inventories with the same size and title
+     * from the pool of @{@link InventoryHelper}, instead of creating a new one.
+     *
+     * @param pooled If the inventories are pooled
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> withPooling(boolean pooled) {
+        return apply(() -> this.pooled = pooled);
+    }
+
+    /**
+     * Render the @{@link ThreadSafeItem} of each page in parallel on the
+     * fork-join pool, and apply them to @{@link Inventory} in the main thread.
+     *
+     * @param parallel If the items are rendered in parallel
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> withParallelRendering(boolean parallel) {
+        return apply(() -> this.parallelRendering = parallel);
     }
 
     /**
@@ -87,8 +261,10 @@ public class InventoryBuilder<T extends InventoryItem> implements Cloneable {
      * @return This @{@link InventoryBuilder}
      */
     public InventoryBuilder<T> withStart(int start) {
-        this.startSlot = start;
-        return this;
+        return apply(() -> {
+            this.startSlot = start;
+            this.layout = null;
+        });
     }
 
     /**
@@ -98,8 +274,10 @@ public class InventoryBuilder<T extends InventoryItem> implements Cloneable {
      * @return This @{@link InventoryBuilder}
      */
     public InventoryBuilder<T> withExit(int exit) {
-        this.exitSlot = exit;
-        return this;
+        return apply(() -> {
+            this.exitSlot = exit;
+            this.layout = null;
+        });
     }
 
     /**
@@ -109,19 +287,29 @@ public class InventoryBuilder<T extends InventoryItem> implements Cloneable {
      * @return This @{@link InventoryBuilder}
      */
     public InventoryBuilder<T> withSkip(int... skip) {
-        this.skipFunction = integer -> Arrays.stream(skip).anyMatch(slot -> slot == integer);
-        return this;
+        return apply(() -> {
+            BitSet skipped = new BitSet();
+            for (int slot : skip) {
+                if (slot >= 0) skipped.set(slot);
+            }
+
+            this.skipFunction = skipped::get;
+            this.layout = null;
+        });
     }
 
     /**
      * Skip placing items in these slots.
+     * The function is called once for each slot when the @{@link SlotLayout} is compiled.
      *
      * @param skip The @{@link Function} to check slot.
      * @return This @{@link InventoryBuilder}
      */
     public InventoryBuilder<T> withSkip(@Nullable Function<Integer, Boolean> skip) {
-        this.skipFunction = skip;
-        return this;
+        return apply(() -> {
+            this.skipFunction = skip;
+            this.layout = null;
+        });
     }
 
     /**
@@ -142,6 +330,36 @@ public class InventoryBuilder<T extends InventoryItem> implements Cloneable {
         return this;
     }
 
+    /**
+     * Set animation in @{@link Inventory}
+     *
+     * @param slot      The slot
+     * @param animation The @{@link SlotAnimation}
+     *
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> withAnimation(int slot, @NotNull SlotAnimation animation) {
+        return withAnimation(slot, animation, null);
+    }
+
+    /**
+     * Set animation in @{@link Inventory}
+     *
+     * @param slot      The slot
+     * @param animation The @{@link SlotAnimation}
+     * @param callBack  The @{@link ItemCallback}
+     *
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> withAnimation(int slot, @NotNull SlotAnimation animation, @Nullable ItemCallback<T> callBack) {
+
+        if (slot >= 0) {
+            addFormat(new AnimatedItemFormat<>(slot, animation, callBack));
+        }
+
+        return this;
+    }
+
     /**
      * Set items in @{@link Inventory} with pagination
      *
@@ -161,7 +379,7 @@ public class InventoryBuilder<T extends InventoryItem> implements Cloneable {
      * @return This @{@link InventoryBuilder}
      */
     public InventoryBuilder<T> withItems(@NotNull Collection<ItemStack> items, @Nullable ItemCallback<T> callBack) {
-        return withItems(new ArrayList<>(items), callBack);
+        return withItems(items instanceof List ? (List<ItemStack>) items : new ArrayList<>(items), callBack);
     }
 
     /**
@@ -173,7 +391,56 @@ public class InventoryBuilder<T extends InventoryItem> implements Cloneable {
      * @return This @{@link InventoryBuilder}
      */
     public InventoryBuilder<T> withItems(@NotNull List<ItemStack> items, @Nullable ItemCallback<T> callBack) {
-        addFormat(new PaginatedItemFormat<>(items, callBack));
+        return withItems(new ListPageSource<>(items), callBack);
+    }
+
+    /**
+     * Set items in @{@link Inventory} with pagination,
+     * updating the inventory when the list changes.
+     *
+     * @param items     The @{@link ObservableList} of @{@link ItemStack}
+     * @param callBack  The @{@link ItemCallback}
+     *
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> withItems(@NotNull ObservableList<ItemStack> items, @Nullable ItemCallback<T> callBack) {
+        return withItems((PageSource<ItemStack>) items, callBack);
+    }
+
+    /**
+     * Set items in @{@link Inventory} with pagination, consuming the iterator lazily.
+     *
+     * @param items     The @{@link Iterator} of @{@link ItemStack}
+     * @param callBack  The @{@link ItemCallback}
+     *
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> withItems(@NotNull Iterator<ItemStack> items, @Nullable ItemCallback<T> callBack) {
+        return withItems(new IteratorPageSource<>(items), callBack);
+    }
+
+    /**
+     * Set items in @{@link Inventory} with pagination, consuming the stream lazily.
+     *
+     * @param items     The @{@link Stream} of @{@link ItemStack}
+     * @param callBack  The @{@link ItemCallback}
+     *
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> withItems(@NotNull Stream<ItemStack> items, @Nullable ItemCallback<T> callBack) {
+        return withItems(IteratorPageSource.of(items), callBack);
+    }
+
+    /**
+     * Set items in @{@link Inventory} with pagination
+     *
+     * @param source    The @{@link PageSource} of @{@link ItemStack}
+     * @param callBack  The @{@link ItemCallback}
+     *
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> withItems(@NotNull PageSource<ItemStack> source, @Nullable ItemCallback<T> callBack) {
+        addFormat(new PaginatedItemFormat<>(source, callBack));
         return this;
     }
 
@@ -214,7 +481,7 @@ public class InventoryBuilder<T extends InventoryItem> implements Cloneable {
      * @return This @{@link InventoryBuilder}
      */
     public InventoryBuilder<T> withObjects(@NotNull Collection<T> objects, @Nullable ObjectCallback<T> callBack) {
-        return withObjects(new ArrayList<>(objects), callBack);
+        return withObjects(objects instanceof List ? (List<T>) objects : new ArrayList<>(objects), callBack);
     }
 
     /**
@@ -226,7 +493,56 @@ public class InventoryBuilder<T extends InventoryItem> implements Cloneable {
      * @return This @{@link InventoryBuilder}
      */
     public InventoryBuilder<T> withObjects(@NotNull List<T> objects, @Nullable ObjectCallback<T> callBack) {
-        addFormat(new PaginatedObjectFormat<>(objects, callBack));
+        return withObjects(new ListPageSource<>(objects), callBack);
+    }
+
+    /**
+     * Set items in @{@link Inventory} with pagination,
+     * updating the inventory when the list changes.
+     *
+     * @param objects   The @{@link ObservableList} of objects
+     * @param callBack  The @{@link ObjectCallback}
+     *
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> withObjects(@NotNull ObservableList<T> objects, @Nullable ObjectCallback<T> callBack) {
+        return withObjects((PageSource<T>) objects, callBack);
+    }
+
+    /**
+     * Set items in @{@link Inventory} with pagination, consuming the iterator lazily.
+     *
+     * @param objects   The @{@link Iterator} of objects
+     * @param callBack  The @{@link ObjectCallback}
+     *
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> withObjects(@NotNull Iterator<T> objects, @Nullable ObjectCallback<T> callBack) {
+        return withObjects(new IteratorPageSource<>(objects), callBack);
+    }
+
+    /**
+     * Set items in @{@link Inventory} with pagination, consuming the stream lazily.
+     *
+     * @param objects   The @{@link Stream} of objects
+     * @param callBack  The @{@link ObjectCallback}
+     *
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> withObjects(@NotNull Stream<T> objects, @Nullable ObjectCallback<T> callBack) {
+        return withObjects(IteratorPageSource.of(objects), callBack);
+    }
+
+    /**
+     * Set items in @{@link Inventory} with pagination
+     *
+     * @param source    The @{@link PageSource} of objects
+     * @param callBack  The @{@link ObjectCallback}
+     *
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> withObjects(@NotNull PageSource<T> source, @Nullable ObjectCallback<T> callBack) {
+        addFormat(new PaginatedObjectFormat<>(source, callBack));
         return this;
     }
 
@@ -240,8 +556,10 @@ public class InventoryBuilder<T extends InventoryItem> implements Cloneable {
      * @return This @{@link InventoryBuilder}
      */
     public InventoryBuilder<T> withButton(@NotNull ButtonType type, int slot, @NotNull ItemStack itemStack) {
-        buttons.put(type, Pair.of(slot, itemStack));
-        return this;
+        return apply(() -> {
+            own();
+            buttons.put(type, Pair.of(slot, itemStack));
+        });
     }
 
     /**
@@ -253,8 +571,7 @@ public class InventoryBuilder<T extends InventoryItem> implements Cloneable {
      * @return This @{@link InventoryBuilder}
      */
     public InventoryBuilder<T> withProperty(@NotNull String key, @NotNull Object object) {
-        this.properties.set(key, object);
-        return this;
+        return apply(() -> this.properties.set(key, object));
     }
 
     /**
@@ -265,23 +582,56 @@ public class InventoryBuilder<T extends InventoryItem> implements Cloneable {
      * @return This @{@link InventoryBuilder}
      */
     public InventoryBuilder<T> withProperties(@NotNull InventoryProperty properties) {
-        this.properties = properties;
-        return this;
+        return apply(() -> this.properties = properties);
+    }
+
+    /**
+     * Compile this @{@link InventoryBuilder} in an immutable @{@link MenuTemplate}
+     * that can be opened to many players without copying its structure.
+     *
+     * @return The @{@link MenuTemplate}
+     */
+    public MenuTemplate<T> toTemplate() {
+        return InventoryHelper.callSync(() -> {
+            Map<ButtonType, Pair<Integer, ItemStack>> buttons = new EnumMap<>(ButtonType.class);
+            buttons.putAll(this.buttons);
+
+            return new MenuTemplate<>(inventoryName, size, startSlot, exitSlot, pageSize, pageCache,
+                    placeholder, skipFunction, getLayout(), properties.clone(),
+                    Collections.unmodifiableMap(buttons),
+                    Collections.unmodifiableSet(new LinkedHashSet<>(formats)),
+                    callbackExecutor, clickInterval, pageDebounce, pooled, parallelRendering);
+        });
     }
 
     /**
      * Clone @{@link InventoryBuilder}
+     *
+     * <p>The clone shares the formats, buttons and properties of this builder
+     * until one of them is modified, and its @{@link Inventory} is only
+     * created when it's formatted or opened.</p>
+     *
      * @return The clone of this @{@link InventoryBuilder}
      */
-    @Override @SuppressWarnings("unchecked")
+    @Override
     public InventoryBuilder<T> clone() {
+        return InventoryHelper.callSync(this::copy);
+    }
+
+    @SuppressWarnings("unchecked")
+    private InventoryBuilder<T> copy() {
         try {
             InventoryBuilder<T> clone = (InventoryBuilder<T>) super.clone();
 
-            clone.inventory = clone.createInventory(this.inventory.getSize());
+            clone.inventory = null;
+            clone.renderer = null;
+            clone.pendingPages = 0;
+            clone.debouncing = false;
+            clone.exposed = false;
             clone.properties = this.properties.clone();
-            clone.buttons = new EnumMap<>(this.buttons);
-            clone.formats = new LinkedHashSet<>(this.formats);
+
+            clone.shared = true;
+            this.shared = true;
 
             return clone;
 
@@ -293,25 +643,196 @@ public class InventoryBuilder<T extends InventoryItem> implements Cloneable {
 
     /**
      * Format @{@link Inventory}
+     *
+     * <p>The formats are rendered in a new frame and
+     * only the slots that changed are written in @{@link Inventory}.
+     * The pages kept by @{@link #withPageCache(int)} are not rendered again,
+     * unless the properties changed.</p>
+     *
      * @return This @{@link InventoryBuilder}
      */
     public InventoryBuilder<T> format() {
-        inventory.clear();
+        return apply(this::formatInventory);
+    }
+
+    /**
+     * Schedule the format of @{@link Inventory} in the @{@link RenderScheduler}.
+     * Repeated calls before the format are merged into one.
+     *
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> refresh() {
+        return apply(() -> {
+            if (renderer != null) {
+                InventoryHelper.getScheduler().schedule(this);
+            }
+        });
+    }
+
+    /**
+     * Schedule a format that writes all slots again, and send the whole inventory
+     * to the viewers once in the end of tick. It's useful when the contents
+     * of @{@link Inventory} were changed outside this builder.
+     *
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> repaint() {
+        return apply(() -> {
+            if (renderer != null) {
+                renderer.invalidate();
+                InventoryHelper.getScheduler().schedule(this);
+            }
+        });
+    }
+
+    /**
+     * Get the players viewing @{@link Inventory}
+     *
+     * @return The list of @{@link HumanEntity}
+     */
+    @NotNull
+    public List<HumanEntity> getViewers() {
+        return inventory == null ? Collections.emptyList() : inventory.getViewers();
+    }
+
+    /**
+     * Get the @{@link SlotLayout} of paginated formats,
+     * compiling it if the slot settings changed.
+     *
+     * @return The @{@link SlotLayout}
+     */
+    @NotNull
+    public SlotLayout getLayout() {
+        if (layout == null) {
+            layout = SlotLayout.compile(size, startSlot, exitSlot, skipFunction);
+        }
+
+        return layout;
+    }
+
+    /**
+     * Forget the cached pages of all paginated formats.
+     *
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> invalidatePages() {
+        return apply(() -> {
+            if (renderer == null) return;
+
+            for (InventoryFormat<T> format : formats) {
+                if (format instanceof PaginatedFormat) {
+                    ((PaginatedFormat<T>) format).invalidate(renderer);
+                }
+            }
+        });
+    }
+
+    /**
+     * Forget the cached pages of all paginated formats from the page.
+     *
+     * @param page The first page
+     *
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> invalidatePages(int page) {
+        return apply(() -> {
+            if (renderer == null) return;
+
+            for (InventoryFormat<T> format : formats) {
+                if (format instanceof PaginatedFormat) {
+                    ((PaginatedFormat<T>) format).invalidate(renderer, page);
+                }
+            }
+        });
+    }
+
+    /**
+     * Render again only the slots that display the object.
+     *
+     * @param object The object
+     *
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> update(@NotNull T object) {
+        return apply(() -> {
+            // the item must be rendered again, even if its version didn't change
+            InventoryHelper.getRenderCache().invalidate(object);
+
+            updateSlots(object);
+        });
+    }
+
+    /**
+     * Render again the slots that display the object, reusing its cached render.
+     * It's called by @{@link InventoryHelper} for each builder of a changed object,
+     * after the render of object was forgotten only once.
+     *
+     * @param object The object
+     */
+    void updateSlots(@NotNull T object) {
+        if (renderer == null) return;
 
         for (InventoryFormat<T> format : formats) {
+            format.update(renderer, this, object);
+        }
+    }
 
-            if (format instanceof PaginatedFormat) {
-                PaginatedFormat<T> paginated = (PaginatedFormat<T>) format;
-                paginated.format(inventory, this, skipFunction);
-                createPages(paginated.getSize());
+    /**
+     * Render again only the item of slot.
+     *
+     * @param slot The slot
+     *
+     * @return This @{@link InventoryBuilder}
+     */
+    @SuppressWarnings("unchecked")
+    public InventoryBuilder<T> update(int slot) {
+        return apply(() -> {
+            if (renderer == null) return;
 
-                continue;
+            InventoryFormat<T> format = (InventoryFormat<T>) renderer.getHandler(slot);
+            if (format != null) {
+                format.update(renderer, this, slot);
             }
+        });
+    }
 
-            format.format(inventory, this);
+    /**
+     * Release the session of this builder, cancelling its pending loads and refreshes.
+     * The @{@link Inventory} is dropped and created again when the builder is opened,
+     * unless it was returned by @{@link #build(Player...)}, since it may be opened again.
+     *
+     * <p>It's called automatically when the last viewer closes the inventory of session.</p>
+     */
+    public void release() {
+        InventoryHelper.runSync(this::releaseSession);
+    }
+
+    private void releaseSession() {
+        InventoryHelper.getSessions().unregister(this);
+        InventoryHelper.getRegistry().untrack(this);
+        InventoryHelper.getScheduler().cancel(this);
+        InventoryHelper.getTicker().untrack(this);
+
+        if (renderer == null) return;
+
+        for (InventoryFormat<T> format : formats) {
+            format.release(renderer);
         }
 
-        return this;
+        // the inventory returned by build() stays bound, so the caller can open it again
+        if (exposed) return;
+
+        InventoryHolder holder = inventory.getHolder();
+        if (holder instanceof CustomHolder) {
+            ((CustomHolder) holder).unbind();
+        }
+
+        if (pooled) {
+            InventoryHelper.getPool().release(size, inventoryName, inventory);
+        }
+
+        this.inventory = null;
+        this.renderer = null;
     }
 
     /**
@@ -322,10 +843,40 @@ public class InventoryBuilder<T extends InventoryItem> implements Cloneable {
      * @return This @{@link InventoryBuilder}
      */
     public InventoryBuilder<T> open(Player player) {
-        updateInventory();
-        player.openInventory(inventory);
+        return apply(() -> {
+            formatInventory();
+            player.openInventory(inventory);
 
-        return this;
+            InventoryHelper.getSessions().register(this);
+        });
+    }
+
+    /**
+     * Open the rendered @{@link Inventory} to players as a shared view.
+     * It's only formatted if it isn't rendered yet, so any number of players
+     * can view the same inventory and each refresh renders it once for all of them.
+     *
+     * <p>The clicks are dispatched with the event of each player, but the page
+     * and the click limits of slots are shared by all viewers.</p>
+     *
+     * @param players The @{@link Player}
+     *
+     * @return This @{@link InventoryBuilder}
+     */
+    public InventoryBuilder<T> join(Player... players) {
+        return apply(() -> {
+            if (renderer == null) {
+                formatInventory();
+            }
+
+            for (Player player : players) {
+                player.openInventory(inventory);
+            }
+
+            if (players.length > 0) {
+                InventoryHelper.getSessions().register(this);
+            }
+        });
     }
 
     /**
@@ -336,75 +887,270 @@ public class InventoryBuilder<T extends InventoryItem> implements Cloneable {
      * @return The @{@link Inventory}
      */
     public Inventory build(Player... players) {
-        updateInventory();
+        return InventoryHelper.callSync(() -> {
+            formatInventory();
 
-        for (Player player : players) {
-            player.openInventory(inventory);
-        }
+            for (Player player : players) {
+                player.openInventory(inventory);
+            }
+
+            if (players.length > 0) {
+                InventoryHelper.getSessions().register(this);
+            }
 
-        return this.inventory;
+            this.exposed = true;
+            return this.inventory;
+        });
     }
 
     private void addFormat(InventoryFormat<T> format) {
-        if (!this.formats.add(format)) {
-            this.formats.remove(format);
-            this.formats.add(format);
+        apply(() -> {
+            own();
+
+            // formats are compared by the key of their region, so replacing one doesn't depend on its contents
+            if (!this.formats.add(format)) {
+                InventoryFormat<T> previous = getFormat(format);
+
+                this.formats.remove(format);
+                this.formats.add(format);
+
+                if (renderer != null && previous != format) {
+                    // the pending loads of replaced format would refresh through a detached state
+                    previous.release(renderer);
+                    renderer.retainStates(formats);
+                }
+            }
+        });
+    }
+
+    /**
+     * Apply the change in the main thread, where the formats and the renderer are used.
+     * Outside of it, the change is applied in the next tick, in the order it was made.
+     */
+    private InventoryBuilder<T> apply(Runnable change) {
+        InventoryHelper.runSync(change);
+        return this;
+    }
+
+    private InventoryFormat<T> getFormat(InventoryFormat<T> format) {
+        for (InventoryFormat<T> registered : formats) {
+            if (registered.equals(format)) return registered;
         }
+
+        return format;
     }
 
-    private void updateInventory() {
-        format();
+    private InventoryRenderer getRenderer() {
+        if (renderer == null) {
+            this.inventory = createInventory(size);
+            this.renderer = new InventoryRenderer(inventory);
+        }
+
+        return renderer;
+    }
+
+    private void own() {
+        if (!shared) return;
+
+        Map<ButtonType, Pair<Integer, ItemStack>> buttons = new EnumMap<>(ButtonType.class);
+        buttons.putAll(this.buttons);
+
+        this.buttons = buttons;
+        this.formats = new LinkedHashSet<>(this.formats);
+        this.shared = false;
+    }
+
+    private void track() {
+        Set<InventoryItem> objects = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (InventoryFormat<T> format : formats) {
+            objects.addAll(format.getDisplayedObjects(renderer));
+        }
+
+        InventoryHelper.getRegistry().track(this, objects);
+    }
+
+    private void formatInventory() {
+        InventoryRenderer renderer = getRenderer();
+        renderer.begin();
+
+        for (InventoryFormat<T> format : formats) {
 
-        for (HumanEntity human : inventory.getViewers()) {
-            if (human instanceof Player) {
-                ((Player) human).updateInventory();
+            if (format instanceof PaginatedFormat) {
+                PaginatedFormat<T> paginated = (PaginatedFormat<T>) format;
+                paginated.format(renderer, this, getLayout());
+                createPages(paginated);
+
+                continue;
             }
+
+            format.format(renderer, this);
+        }
+
+        renderer.commit();
+        track();
+
+        // the slots written by a diff are already sent by the server
+        if (renderer.isFullCommit()) {
+            InventoryHelper.getSync().mark(inventory.getViewers());
         }
+
+        InventoryHelper.getTicker().track(this, renderer);
     }
 
-    private void createPages(int size) {
+    private void createPages(PaginatedFormat<T> paginated) {
         if(this.currentPage > 1 && buttons.containsKey(ButtonType.PREVIOUS_PAGE)) {
             Pair<Integer, ItemStack> pair = buttons.get(ButtonType.PREVIOUS_PAGE);
-            inventory.setItem(pair.getKey(), pair.getValue());
+            renderer.setButton(pair.getKey(), pair.getValue(), ButtonType.PREVIOUS_PAGE);
         }
 
-        if(this.currentPage > 0 && buttons.containsKey(ButtonType.NEXT_PAGE) && size > this.currentPage * this.pageSize) {
+        if(this.currentPage > 0 && buttons.containsKey(ButtonType.NEXT_PAGE) && paginated.hasNextPage(this.currentPage, this.pageSize)) {
             Pair<Integer, ItemStack> pair = buttons.get(ButtonType.NEXT_PAGE);
-            inventory.setItem(pair.getKey(), pair.getValue());
+            renderer.setButton(pair.getKey(), pair.getValue(), ButtonType.NEXT_PAGE);
         }
     }
 
     private Inventory createInventory(int size) {
-        return Bukkit.createInventory(new CustomHolder(event -> {
+        if (pooled) {
+            Inventory inventory = InventoryHelper.getPool().acquire(size, inventoryName);
+            if (inventory != null) {
+                ((CustomHolder) inventory.getHolder()).bind(this, createConsumer());
+                return inventory;
+            }
+        }
+
+        return Bukkit.createInventory(new CustomHolder(this, createConsumer()), size, inventoryName);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Consumer<InventoryEvent> createConsumer() {
+        return event -> {
             if (event instanceof org.bukkit.event.inventory.InventoryClickEvent) {
                 org.bukkit.event.inventory.InventoryClickEvent click = (org.bukkit.event.inventory.InventoryClickEvent) event;
 
                 int slot = click.getRawSlot();
 
-                for (Map.Entry<ButtonType, Pair<Integer, ItemStack>> entry : buttons.entrySet()) {
-                    if (entry.getValue().getKey() == slot) {
-                        this.currentPage = this.currentPage + entry.getKey().getValue();
-                        format();
-                        return;
-                    }
+                ButtonType button = renderer.getButton(slot);
+                if (button != null) {
+                    changePage(button.getValue());
+                    return;
                 }
 
-                for (InventoryFormat<T> format : formats) {
-                    if (format.isValid(slot)) {
-                        format.accept(click, this);
-                        break;
-                    }
+                InventoryFormat<T> format = (InventoryFormat<T>) renderer.getHandler(slot);
+                if (format != null && renderer.tryClick(slot, clickInterval)) {
+                    accept(format, click, slot, (T) renderer.getObject(slot));
                 }
 
             }
 
-        }), size, inventoryName);
+        };
+    }
+
+    private void changePage(int value) {
+        if (pageDebounce <= 0) {
+            // the buttons stay in the frame until the scheduled render, so repeated clicks are clamped
+            this.currentPage = clampPage(Math.max(1, this.currentPage + value));
+            refresh();
+            return;
+        }
+
+        // the first click opens the window, the next ones are merged into it
+        this.pendingPages += value;
+
+        if (!debouncing) {
+            this.debouncing = true;
+
+            Bukkit.getScheduler().runTaskLater(InventoryHelper.getPlugin(), () -> {
+                int page = Math.max(1, this.currentPage + this.pendingPages);
+                this.pendingPages = 0;
+                this.debouncing = false;
+
+                if (renderer == null) return;
+
+                this.currentPage = clampPage(page);
+                refresh();
+            }, pageDebounce);
+        }
+    }
+
+    private int clampPage(int page) {
+        if (pageSize <= 0) return page;
+
+        while (page > 1 && !hasPage(page)) {
+            page--;
+        }
+
+        return page;
     }
 
-    @Data
+    @SuppressWarnings("unchecked")
+    private boolean hasPage(int page) {
+        for (InventoryFormat<T> format : formats) {
+            if (format instanceof PaginatedFormat && ((PaginatedFormat<T>) format).hasNextPage(page - 1, pageSize)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void accept(InventoryFormat<T> format, org.bukkit.event.inventory.InventoryClickEvent click, int slot, T object) {
+        // the item is read in the main thread, since the callback may run in another one
+        ItemStack itemStack = click.getCurrentItem();
+
+        if (callbackExecutor == null) {
+            format.accept(click, itemStack, this, object);
+            return;
+        }
+
+        // ignore the clicks while the previous callback of slot is running
+        if (renderer.isPending(slot)) return;
+        renderer.setPending(slot, true);
+
+        InventoryRenderer renderer = this.renderer;
+        CompletableFuture.runAsync(() -> format.accept(click, itemStack, this, object), callbackExecutor)
+                .whenComplete((result, throwable) -> InventoryHelper.runSync(() -> {
+                    renderer.setPending(slot, false);
+
+                    if (throwable != null) {
+                        InventoryHelper.getPlugin().getLogger().log(Level.WARNING, "Failed to run click callback", throwable);
+                    }
+                }));
+    }
+
+    @Getter
     public static class CustomHolder implements InventoryHolder {
 
-        private final Consumer<InventoryEvent> consumer;
+        @Nullable private InventoryBuilder<?> builder;
+        @Nullable private Consumer<InventoryEvent> consumer;
+
+        public CustomHolder(@Nullable Consumer<InventoryEvent> consumer) {
+            this(null, consumer);
+        }
+
+        public CustomHolder(@Nullable InventoryBuilder<?> builder, @Nullable Consumer<InventoryEvent> consumer) {
+            this.builder = builder;
+            this.consumer = consumer;
+        }
+
+        /**
+         * Bind the holder to a new @{@link InventoryBuilder}
+         *
+         * @param builder   The @{@link InventoryBuilder}
+         * @param consumer  The consumer of events
+         */
+        public void bind(@NotNull InventoryBuilder<?> builder, @NotNull Consumer<InventoryEvent> consumer) {
+            this.builder = builder;
+            this.consumer = consumer;
+        }
+
+        /**
+         * Remove the reference of @{@link InventoryBuilder}, so the inventory
+         * doesn't keep it alive after the session is released.
+         */
+        public void unbind() {
+            this.builder = null;
+            this.consumer = null;
+        }
 
         @Override
         public Inventory getInventory() {
@@ -1,17 +1,56 @@
 package br.com.blecaute.inventory;
 
+import br.com.blecaute.inventory.exception.InventoryBuilderException;
+import br.com.blecaute.inventory.listener.ClickThrottle;
 import br.com.blecaute.inventory.listener.InventoryClickListener;
+import br.com.blecaute.inventory.listener.SessionListener;
+import br.com.blecaute.inventory.registry.InventoryRegistry;
+import br.com.blecaute.inventory.registry.SessionRegistry;
+import br.com.blecaute.inventory.render.InventoryPool;
+import br.com.blecaute.inventory.render.InventorySync;
+import br.com.blecaute.inventory.render.RefreshTicker;
+import br.com.blecaute.inventory.render.RenderCache;
+import br.com.blecaute.inventory.render.RenderScheduler;
+import br.com.blecaute.inventory.type.InventoryItem;
+import br.com.blecaute.inventory.util.ExecutorUtil;
 import lombok.Getter;
 import org.bukkit.Bukkit;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 /**
  * Class for initializing the inventory helper.
  */
 public class InventoryHelper {
 
+    private static final int PURGE_INTERVAL = 1200;
+
     @Getter private static boolean enabled = false;
+    @Getter private static Plugin plugin;
+    @Getter private static final InventoryRegistry registry = new InventoryRegistry();
+    @Getter private static final SessionRegistry sessions = new SessionRegistry();
+    @Getter private static final RenderScheduler scheduler = new RenderScheduler();
+    @Getter private static final InventorySync sync = new InventorySync();
+    @Getter private static final RefreshTicker ticker = new RefreshTicker();
+    @Getter private static final ClickThrottle throttle = new ClickThrottle();
+    @Getter private static final InventoryPool pool = new InventoryPool();
+    @Getter private static final RenderCache renderCache = new RenderCache();
+
+    @Getter private static long currentTick = 0;
+
+    private static ExecutorService callbackExecutor;
+
+    private static final List<Listener> listeners = new ArrayList<>();
+    private static BukkitTask task;
 
     /**
      * Prevent invalid instance of object.
@@ -26,11 +65,131 @@ public class InventoryHelper {
     public static void enable(Plugin plugin) {
         if (enabled) return;
 
+        InventoryHelper.plugin = plugin;
+
+        listeners.add(new InventoryClickListener());
+        listeners.add(new SessionListener());
+
         PluginManager manager = Bukkit.getPluginManager();
-        manager.registerEvents(new InventoryClickListener(), plugin);
+        for (Listener listener : listeners) {
+            manager.registerEvents(listener, plugin);
+        }
+
+        task = Bukkit.getScheduler().runTaskTimer(plugin, InventoryHelper::tick, 1L, 1L);
 
         enabled = true;
     }
 
+    /**
+     * Disable inventory helper, closing and releasing all sessions
+     * and unregistering its listeners and tick task, so it can be enabled again.
+     * It's called automatically when the plugin is disabled.
+     */
+    public static void disable() {
+        if (!enabled) return;
+
+        for (Listener listener : listeners) {
+            HandlerList.unregisterAll(listener);
+        }
+
+        listeners.clear();
+
+        task.cancel();
+        task = null;
+
+        sessions.releaseAll();
+        pool.clear();
+        renderCache.clear();
+
+        if (callbackExecutor != null) {
+            callbackExecutor.shutdown();
+            callbackExecutor = null;
+        }
+
+        enabled = false;
+    }
+
+    /**
+     * Get the amount of open sessions, useful to find leaked inventories.
+     *
+     * @return The amount of sessions
+     */
+    public static int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Get the default executor of async callbacks.
+     * It uses virtual threads when the JDK supports them.
+     *
+     * @return The @{@link ExecutorService}
+     */
+    @NotNull
+    public static synchronized ExecutorService getCallbackExecutor() {
+        if (callbackExecutor == null) {
+            callbackExecutor = ExecutorUtil.newCallbackExecutor();
+        }
+
+        return callbackExecutor;
+    }
+
+    /**
+     * Run the task in the main thread. If it's already
+     * in the main thread, the task runs immediately.
+     *
+     * @param runnable The task
+     */
+    public static void runSync(@NotNull Runnable runnable) {
+        if (Bukkit.isPrimaryThread()) {
+            runnable.run();
+        } else {
+            Bukkit.getScheduler().runTask(plugin, runnable);
+        }
+    }
+
+    /**
+     * Call the supplier in the main thread and wait for its result.
+     * If it's already in the main thread, the supplier is called immediately.
+     *
+     * @param supplier The @{@link Supplier}
+     * @param <T>      The type of result
+     *
+     * @return The result
+     */
+    public static <T> T callSync(@NotNull Supplier<T> supplier) {
+        if (Bukkit.isPrimaryThread()) {
+            return supplier.get();
+        }
+
+        try {
+            return Bukkit.getScheduler().callSyncMethod(plugin, supplier::get).get();
+        } catch (Exception exception) {
+            throw new InventoryBuilderException(exception);
+        }
+    }
+
+    /**
+     * Update, in the next tick, the slots of all inventories
+     * that display the object, forgetting its cached render.
+     * This method can be called from any thread.
+     *
+     * @param object The @{@link InventoryItem}
+     */
+    public static void update(@NotNull InventoryItem object) {
+        renderCache.invalidate(object);
+        registry.invalidate(object);
+    }
+
+    private static void tick() {
+        registry.flush(InventoryBuilder::updateSlots);
+        scheduler.flush();
+        ticker.tick(currentTick);
+        sync.flush();
+
+        if (++currentTick % PURGE_INTERVAL == 0) {
+            registry.purge();
+            sessions.purge();
+        }
+    }
 
 }
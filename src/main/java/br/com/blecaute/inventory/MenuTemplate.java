@@ -0,0 +1,106 @@
+package br.com.blecaute.inventory;
+
+import br.com.blecaute.inventory.enums.ButtonType;
+import br.com.blecaute.inventory.format.InventoryFormat;
+import br.com.blecaute.inventory.property.InventoryProperty;
+import br.com.blecaute.inventory.render.SlotLayout;
+import br.com.blecaute.inventory.type.InventoryItem;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.commons.lang3.tuple.Pair;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * An immutable menu compiled once from @{@link InventoryBuilder}.
+ * The template is shared by all viewers and each viewer only gets a lightweight
+ * session holding its page, properties and @{@link Inventory}.
+ *
+ * @param <T> The type of @{@link InventoryItem}
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class MenuTemplate<T extends InventoryItem> {
+
+    private final String name;
+    private final int size;
+
+    private final int startSlot;
+    private final int exitSlot;
+
+    private final int pageSize;
+    private final int pageCache;
+
+    @Nullable private final ItemStack placeholder;
+    @Nullable private final Function<Integer, Boolean> skipFunction;
+    @NotNull private final SlotLayout layout;
+
+    @Getter(AccessLevel.NONE)
+    @NotNull private final InventoryProperty properties;
+    @NotNull private final Map<ButtonType, Pair<Integer, ItemStack>> buttons;
+    @NotNull private final Set<InventoryFormat<T>> formats;
+
+    @Nullable private final Executor callbackExecutor;
+
+    private final long clickInterval;
+    private final int pageDebounce;
+
+    private final boolean pooled;
+    private final boolean parallelRendering;
+
+    /**
+     * Get the default properties of sessions.
+     * The template is immutable, so a copy of them is returned.
+     *
+     * @return The copy of @{@link InventoryProperty}
+     */
+    @NotNull
+    public InventoryProperty getProperties() {
+        return properties.clone();
+    }
+
+    /**
+     * Create a session of this template.
+     * The session shares the formats and buttons of template until it's modified.
+     *
+     * @return The @{@link InventoryBuilder} of session
+     */
+    @NotNull
+    public InventoryBuilder<T> createSession() {
+        return new InventoryBuilder<>(this);
+    }
+
+    /**
+     * Create a session of this template and open it to player.
+     *
+     * @param player The @{@link Player}
+     *
+     * @return The @{@link InventoryBuilder} of session
+     */
+    @NotNull
+    public InventoryBuilder<T> open(@NotNull Player player) {
+        return createSession().open(player);
+    }
+
+    /**
+     * Create a single session of this template shared by all players.
+     * The menu is rendered once for all of them.
+     *
+     * @param players The @{@link Player}
+     *
+     * @return The @{@link InventoryBuilder} of shared session
+     */
+    @NotNull
+    public InventoryBuilder<T> openShared(@NotNull Player... players) {
+        return createSession().join(players);
+    }
+}
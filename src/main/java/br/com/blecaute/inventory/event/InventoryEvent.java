@@ -4,6 +4,7 @@ import br.com.blecaute.inventory.property.InventoryProperty;
 import br.com.blecaute.inventory.type.InventoryItem;
 import br.com.blecaute.inventory.InventoryBuilder;
 import lombok.Data;
+import org.bukkit.entity.HumanEntity;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.ApiStatus;
@@ -40,6 +41,17 @@ public class InventoryEvent<T extends InventoryItem> {
      */
     private final T object;
 
+    /**
+     * Get the player who clicked, which differs
+     * for each viewer of a shared @{@link InventoryBuilder}
+     *
+     * @return The @{@link HumanEntity}
+     */
+    @NotNull
+    public HumanEntity getWhoClicked() {
+        return event.getWhoClicked();
+    }
+
     /**
      * The object of @{@link InventoryItem}
      *
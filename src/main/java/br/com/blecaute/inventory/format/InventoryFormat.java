@@ -1,10 +1,16 @@
 package br.com.blecaute.inventory.format;
 
 import br.com.blecaute.inventory.InventoryBuilder;
+import br.com.blecaute.inventory.render.InventoryRenderer;
 import br.com.blecaute.inventory.type.InventoryItem;
 import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.Inventory;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
 
 /**
  * Interface to format @{@link Inventory} in @{@link InventoryBuilder}
@@ -14,27 +20,77 @@ import org.jetbrains.annotations.NotNull;
 public interface InventoryFormat<T extends InventoryItem> {
 
     /**
-     * Check if clicked slot is valid
+     * Get the key of the region occupied by this format.
+     * Registering a format replaces the format with the same key.
+     *
+     * @return The key
+     */
+    @NotNull Object getKey();
+
+    /**
+     * Check if slot was written by this format in the last format
      *
+     * @param renderer The @{@link InventoryRenderer} of @{@link Inventory}
      * @param slot The slot
      * @return true if slot is valid.
      */
-    boolean isValid(int slot);
+    default boolean isValid(@NotNull InventoryRenderer renderer, int slot) {
+        return renderer.getHandler(slot) == this;
+    }
 
     /**
      * Accept click event
      *
      * @param event The @{@link InventoryClickEvent}
+     * @param itemStack The clicked @{@link ItemStack}, read in the main thread
      * @param builder The @{@link InventoryBuilder}
+     * @param object The object displayed in clicked slot
      */
-    void accept(@NotNull InventoryClickEvent event, @NotNull InventoryBuilder<T> builder);
+    void accept(@NotNull InventoryClickEvent event, @NotNull ItemStack itemStack,
+                @NotNull InventoryBuilder<T> builder, @Nullable T object);
 
     /**
      * Format inventory
      *
-     * @param inventory The @{@link Inventory}
+     * @param renderer The @{@link InventoryRenderer} of @{@link Inventory}
+     * @param builder The @{@link InventoryBuilder}
+     */
+    void format(@NotNull InventoryRenderer renderer, @NotNull InventoryBuilder<T> builder);
+
+    /**
+     * Render again the item of slot
+     *
+     * @param renderer The @{@link InventoryRenderer} of @{@link Inventory}
+     * @param builder The @{@link InventoryBuilder}
+     * @param slot The slot
+     */
+    void update(@NotNull InventoryRenderer renderer, @NotNull InventoryBuilder<T> builder, int slot);
+
+    /**
+     * Render again the slots that display the object
+     *
+     * @param renderer The @{@link InventoryRenderer} of @{@link Inventory}
      * @param builder The @{@link InventoryBuilder}
+     * @param object The object
+     */
+    default void update(@NotNull InventoryRenderer renderer, @NotNull InventoryBuilder<T> builder, @NotNull T object) { }
+
+    /**
+     * Get the objects displayed in the last format
+     *
+     * @param renderer The @{@link InventoryRenderer} of @{@link Inventory}
+     * @return The displayed objects
+     */
+    @NotNull
+    default Collection<T> getDisplayedObjects(@NotNull InventoryRenderer renderer) {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Release the state of this format in the renderer, cancelling its pending tasks.
+     *
+     * @param renderer The @{@link InventoryRenderer} of @{@link Inventory}
      */
-    void format(@NotNull Inventory inventory, @NotNull InventoryBuilder<T> builder);
+    default void release(@NotNull InventoryRenderer renderer) { }
 
 }
\ No newline at end of file
@@ -1,12 +1,11 @@
 package br.com.blecaute.inventory.format;
 
 import br.com.blecaute.inventory.InventoryBuilder;
+import br.com.blecaute.inventory.render.InventoryRenderer;
+import br.com.blecaute.inventory.render.SlotLayout;
 import br.com.blecaute.inventory.type.InventoryItem;
 import org.bukkit.inventory.Inventory;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
-
-import java.util.function.Function;
 
 /**
  * Interface to create paginated inventory in @{@link InventoryBuilder}
@@ -19,20 +18,47 @@ public interface PaginatedFormat<T extends InventoryItem> extends InventoryForma
      */
     int getSize();
 
+    /**
+     * Check if there is a page after this page.
+     *
+     * @param page The page
+     * @param size The number of objects on each page
+     *
+     * @return true if the next page exists.
+     */
+    default boolean hasNextPage(int page, int size) {
+        return getSize() > page * size;
+    }
+
+    /**
+     * Forget the cached pages of this format.
+     *
+     * @param renderer The @{@link InventoryRenderer} of @{@link Inventory}
+     */
+    void invalidate(@NotNull InventoryRenderer renderer);
+
+    /**
+     * Forget the cached pages of this format from the page.
+     *
+     * @param renderer The @{@link InventoryRenderer} of @{@link Inventory}
+     * @param page     The first page
+     */
+    void invalidate(@NotNull InventoryRenderer renderer, int page);
+
     /**
      * Format inventory
      *
-     * @param inventory     The @{@link Inventory}
+     * @param renderer      The @{@link InventoryRenderer} of @{@link Inventory}
      * @param builder       The @{@link InventoryBuilder}
-     * @param skipFunction  The @{@link Function} to check slots.
+     * @param layout        The @{@link SlotLayout} of paginated slots
      */
-    void format(@NotNull Inventory inventory,
+    void format(@NotNull InventoryRenderer renderer,
                 @NotNull InventoryBuilder<T> builder,
-                @Nullable Function<Integer, Boolean> skipFunction);
+                @NotNull SlotLayout layout);
 
     /**
      * Override the default method for writing the paging method.
      */
     @Override
-    default void format(@NotNull Inventory inventory, @NotNull InventoryBuilder<T> builder) { }
+    default void format(@NotNull InventoryRenderer renderer, @NotNull InventoryBuilder<T> builder) { }
 }
\ No newline at end of file
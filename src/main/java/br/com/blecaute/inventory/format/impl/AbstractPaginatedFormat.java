@@ -0,0 +1,113 @@
+package br.com.blecaute.inventory.format.impl;
+
+import br.com.blecaute.inventory.InventoryBuilder;
+import br.com.blecaute.inventory.format.PaginatedFormat;
+import br.com.blecaute.inventory.render.InventoryRenderer;
+import br.com.blecaute.inventory.render.SlotLayout;
+import br.com.blecaute.inventory.source.IteratorPageSource;
+import br.com.blecaute.inventory.source.LoadedPage;
+import br.com.blecaute.inventory.source.ObservableList;
+import br.com.blecaute.inventory.source.PageLoader;
+import br.com.blecaute.inventory.source.PageSource;
+import br.com.blecaute.inventory.type.InventoryItem;
+import lombok.Getter;
+import lombok.NonNull;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The base of paginated formats, which load the pages of a @{@link PageSource}
+ * with the @{@link PageLoader} kept in each @{@link InventoryRenderer}.
+ *
+ * @param <T> The type of @{@link InventoryItem}
+ * @param <V> The type of values in the pages
+ */
+@Getter
+abstract class AbstractPaginatedFormat<T extends InventoryItem, V> implements PaginatedFormat<T> {
+
+    private final PageSource<V> source;
+
+    AbstractPaginatedFormat(@NonNull PageSource<V> source) {
+        this.source = source;
+    }
+
+    @Override
+    public int getSize() {
+        return source.getSize();
+    }
+
+    @Override
+    public boolean hasNextPage(int page, int size) {
+        return source.hasNextPage(page, size);
+    }
+
+    @Override
+    public void invalidate(@NotNull InventoryRenderer renderer) {
+        PaginatedState<V> state = renderer.getState(this);
+        if (state != null) {
+            state.getLoader().invalidate();
+        }
+    }
+
+    @Override
+    public void invalidate(@NotNull InventoryRenderer renderer, int page) {
+        PaginatedState<V> state = renderer.getState(this);
+        if (state != null) {
+            state.getLoader().invalidateFrom(page);
+        }
+    }
+
+    @Override
+    public void release(@NotNull InventoryRenderer renderer) {
+        PaginatedState<V> state = renderer.getState(this);
+        if (state != null) {
+            state.getLoader().cancel();
+        }
+    }
+
+    /**
+     * Load the current page of @{@link InventoryBuilder},
+     * placing the placeholder while it's loading.
+     *
+     * @param renderer The @{@link InventoryRenderer}
+     * @param builder  The @{@link InventoryBuilder}
+     * @param layout   The @{@link SlotLayout} of paginated slots
+     *
+     * @return The @{@link LoadedPage} or null if the page is still loading.
+     */
+    @Nullable
+    LoadedPage<V> load(@NotNull InventoryRenderer renderer, @NotNull InventoryBuilder<T> builder, @NotNull SlotLayout layout) {
+        PageLoader<V> loader = getState(renderer).getLoader();
+        loader.setCapacity(builder.getPageCache());
+
+        if (source instanceof IteratorPageSource) {
+            ((IteratorPageSource<V>) source).claim(builder);
+        }
+
+        if (source instanceof ObservableList) {
+            ((ObservableList<V>) source).bind(builder);
+        }
+
+        LoadedPage<V> loaded = loader.load(builder.getCurrentPage(), builder.getPageSize(), builder::refresh);
+        if (loaded == null) {
+            placeholder(renderer, builder, layout);
+        }
+
+        return loaded;
+    }
+
+    PaginatedState<V> getState(InventoryRenderer renderer) {
+        return renderer.getState(this, () -> new PaginatedState<>(source));
+    }
+
+    private void placeholder(InventoryRenderer renderer, InventoryBuilder<T> builder, SlotLayout layout) {
+        ItemStack placeholder = builder.getPlaceholder();
+        if (placeholder == null) return;
+
+        int size = builder.getPageSize() <= 0 ? layout.size() : Math.min(builder.getPageSize(), layout.size());
+        for (int index = 0; index < size; index++) {
+            renderer.setItem(layout.getSlot(index), placeholder);
+        }
+    }
+}
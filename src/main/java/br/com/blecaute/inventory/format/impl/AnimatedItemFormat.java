@@ -0,0 +1,48 @@
+package br.com.blecaute.inventory.format.impl;
+
+import br.com.blecaute.inventory.InventoryBuilder;
+import br.com.blecaute.inventory.InventoryHelper;
+import br.com.blecaute.inventory.callback.ItemCallback;
+import br.com.blecaute.inventory.event.ItemClickEvent;
+import br.com.blecaute.inventory.render.InventoryRenderer;
+import br.com.blecaute.inventory.render.SlotAnimation;
+import br.com.blecaute.inventory.type.InventoryItem;
+import lombok.Getter;
+import lombok.NonNull;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+@Getter
+public class AnimatedItemFormat<T extends InventoryItem> extends SimpleItemFormat<T> {
+
+    private final SlotAnimation animation;
+
+    public AnimatedItemFormat(int slot, @NonNull SlotAnimation animation, @Nullable ItemCallback<T> callBack) {
+        super(slot, animation.getFrame(0), callBack);
+        this.animation = animation;
+    }
+
+    @Override
+    public void accept(@NotNull InventoryClickEvent event, @NotNull ItemStack itemStack,
+                       @NotNull InventoryBuilder<T> builder, @Nullable T object) {
+
+        // the clicked frame, instead of the first frame of animation
+        if (getCallBack() != null) {
+            getCallBack().accept(new ItemClickEvent<>(event, itemStack, builder.getProperties()));
+        }
+    }
+
+    @Override
+    public void format(@NotNull InventoryRenderer renderer, @NotNull InventoryBuilder<T> builder) {
+        renderer.setAnimation(getSlot(), animation, InventoryHelper.getCurrentTick(), this);
+    }
+
+    @Override
+    public void update(@NotNull InventoryRenderer renderer, @NotNull InventoryBuilder<T> builder, int slot) {
+        if (getSlot() == slot) {
+            renderer.update(slot, animation.getFrame(InventoryHelper.getCurrentTick()));
+        }
+    }
+}
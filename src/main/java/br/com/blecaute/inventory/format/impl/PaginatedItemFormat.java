@@ -3,70 +3,64 @@ package br.com.blecaute.inventory.format.impl;
 import br.com.blecaute.inventory.InventoryBuilder;
 import br.com.blecaute.inventory.callback.ItemCallback;
 import br.com.blecaute.inventory.event.ItemClickEvent;
-import br.com.blecaute.inventory.format.PaginatedFormat;
+import br.com.blecaute.inventory.render.InventoryRenderer;
+import br.com.blecaute.inventory.render.SlotLayout;
+import br.com.blecaute.inventory.source.LoadedPage;
+import br.com.blecaute.inventory.source.PageSource;
 import br.com.blecaute.inventory.type.InventoryItem;
-import br.com.blecaute.inventory.util.ListUtil;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NonNull;
 import org.bukkit.event.inventory.InventoryClickEvent;
-import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
-import java.util.Set;
-import java.util.function.Function;
 
-@Data
-public class PaginatedItemFormat<T extends InventoryItem> implements PaginatedFormat<T> {
+@Getter
+public class PaginatedItemFormat<T extends InventoryItem> extends AbstractPaginatedFormat<T, ItemStack> {
 
-    @NonNull private final List<ItemStack> items;
     @Nullable private final ItemCallback<T> callBack;
 
-    private final Set<Integer> slots = new HashSet<>();
+    public PaginatedItemFormat(@NonNull PageSource<ItemStack> source, @Nullable ItemCallback<T> callBack) {
+        super(source);
+        this.callBack = callBack;
+    }
 
     @Override
-    public boolean isValid(int slot) {
-        return slots.contains(slot);
+    public @NotNull Object getKey() {
+        return PaginatedItemFormat.class;
     }
 
     @Override
-    public void accept(@NotNull InventoryClickEvent event, @NotNull InventoryBuilder<T> builder) {
+    public void accept(@NotNull InventoryClickEvent event, @NotNull ItemStack itemStack,
+                       @NotNull InventoryBuilder<T> builder, @Nullable T object) {
         if (this.callBack != null) {
-            this.callBack.accept(new ItemClickEvent<>(event, event.getCurrentItem(), builder.getProperties()));
+            this.callBack.accept(new ItemClickEvent<>(event, itemStack, builder.getProperties()));
         }
     }
 
     @Override
-    public int getSize() {
-        return items.size();
-    }
-
-    @Override
-    public void format(@NotNull Inventory inventory,
+    public void format(@NotNull InventoryRenderer renderer,
                        @NotNull InventoryBuilder<T> builder,
-                       @Nullable Function<Integer, Boolean> skipFunction) {
-
-        slots.clear();
+                       @NotNull SlotLayout layout) {
 
-        int slot = builder.getStartSlot();
-        int exit = builder.getExitSlot();
-        int size = builder.getPageSize();
-        int page = builder.getCurrentPage();
+        LoadedPage<ItemStack> loaded = load(renderer, builder, layout);
+        if (loaded == null) return;
 
-        List<ItemStack> values = size <= 0 ? items : ListUtil.getSublist(items, page, size);
-        for(int index = 0; index < values.size() && slot < exit; slot++) {
-
-            if(skipFunction != null && skipFunction.apply(slot)) continue;
+        List<ItemStack> values = loaded.getValues();
+        int count = Math.min(values.size(), layout.size());
+        for (int index = 0; index < count; index++) {
+            renderer.setItem(layout.getSlot(index), values.get(index), this, null);
+        }
 
-            ItemStack item = values.get(index);
-            inventory.setItem(slot, item);
+        getState(renderer).getLoader().prefetch(next -> {});
+    }
 
-            slots.add(slot);
-            index++;
+    @Override
+    public void update(@NotNull InventoryRenderer renderer, @NotNull InventoryBuilder<T> builder, int slot) {
+        if (isValid(renderer, slot)) {
+            renderer.update(slot, renderer.getItem(slot));
         }
     }
 
@@ -76,11 +70,11 @@ public class PaginatedItemFormat<T extends InventoryItem> implements PaginatedFo
         if (!(o instanceof PaginatedItemFormat)) return false;
 
         PaginatedItemFormat<?> that = (PaginatedItemFormat<?>) o;
-        return getItems().equals(that.getItems());
+        return getKey().equals(that.getKey());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getItems());
+        return getKey().hashCode();
     }
 }
@@ -1,88 +1,235 @@
 package br.com.blecaute.inventory.format.impl;
 
 import br.com.blecaute.inventory.InventoryBuilder;
+import br.com.blecaute.inventory.InventoryHelper;
 import br.com.blecaute.inventory.callback.ObjectCallback;
 import br.com.blecaute.inventory.event.ObjectClickEvent;
-import br.com.blecaute.inventory.format.PaginatedFormat;
+import br.com.blecaute.inventory.property.InventoryProperty;
+import br.com.blecaute.inventory.render.InventoryRenderer;
+import br.com.blecaute.inventory.render.RenderCache;
+import br.com.blecaute.inventory.render.SlotLayout;
+import br.com.blecaute.inventory.source.LoadedPage;
+import br.com.blecaute.inventory.source.PageLoader;
+import br.com.blecaute.inventory.source.PageSource;
 import br.com.blecaute.inventory.type.InventoryItem;
 import br.com.blecaute.inventory.type.InventorySlot;
-import br.com.blecaute.inventory.util.ListUtil;
-import lombok.Data;
+import br.com.blecaute.inventory.type.ThreadSafeItem;
+import lombok.Getter;
 import lombok.NonNull;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
-import java.util.function.Function;
 
-@Data
-public class PaginatedObjectFormat<T extends InventoryItem> implements PaginatedFormat<T> {
+@Getter
+public class PaginatedObjectFormat<T extends InventoryItem> extends AbstractPaginatedFormat<T, T> {
+
+    private static final int PARALLEL_THRESHOLD = 8;
 
-    @NonNull private final List<T> items;
     @Nullable private final ObjectCallback<T> callBack;
 
-    private final Map<Integer, T> slots = new HashMap<>();
+    public PaginatedObjectFormat(@NonNull PageSource<T> source, @Nullable ObjectCallback<T> callBack) {
+        super(source);
+        this.callBack = callBack;
+    }
 
     @Override
-    public boolean isValid(int slot) {
-        return slots.containsKey(slot);
+    public @NotNull Object getKey() {
+        return PaginatedObjectFormat.class;
     }
 
     @Override
-    public void accept(@NotNull InventoryClickEvent event, @NotNull InventoryBuilder<T> builder) {
-        if (this.callBack != null) {
+    public void accept(@NotNull InventoryClickEvent event, @NotNull ItemStack itemStack,
+                       @NotNull InventoryBuilder<T> builder, @Nullable T object) {
+        if (this.callBack != null && object != null) {
             this.callBack.accept(new ObjectClickEvent<>(event,
-                    event.getCurrentItem(),
+                    itemStack,
                     builder.getProperties(),
-                    slots.get(event.getRawSlot())));
+                    object));
+        }
+    }
+
+    @Override
+    public void format(@NotNull InventoryRenderer renderer,
+                       @NotNull InventoryBuilder<T> builder,
+                       @NotNull SlotLayout layout) {
+
+        PaginatedState<T> state = getState(renderer);
+        PageLoader<T> loader = state.getLoader();
+
+        state.getObjects().clear();
+
+        LoadedPage<T> loaded = load(renderer, builder, layout);
+        if (loaded == null) return;
+
+        loaded.validate(builder.getProperties());
+
+        List<T> values = loaded.getValues();
+        int[] slots = getSlots(values, layout);
+
+        ItemStack[] items = builder.isParallelRendering() ? renderParallel(loader, loaded, slots, renderer, builder) : null;
+
+        for (int index = 0; index < values.size(); index++) {
+            if (slots[index] < 0) continue;
+
+            T value = values.get(index);
+            place(renderer, state, slots[index], render(items, index, loader, loaded, value, renderer, builder), value);
         }
+
+        loader.prefetch(next -> {
+            next.validate(builder.getProperties());
+
+            for (T value : next.getValues()) {
+                render(loader, next, value, renderer, builder);
+            }
+        });
     }
 
     @Override
-    public int getSize() {
-        return items.size();
+    @SuppressWarnings("unchecked")
+    public void update(@NotNull InventoryRenderer renderer, @NotNull InventoryBuilder<T> builder, int slot) {
+        T value = isValid(renderer, slot) ? (T) renderer.getObject(slot) : null;
+        if (value != null) {
+            renderer.update(slot, InventoryHelper.getRenderCache().getItem(value, renderer.getInventory(), builder.getProperties()));
+        }
     }
 
     @Override
-    public void format(@NotNull Inventory inventory,
-                       @NotNull InventoryBuilder<T> builder,
-                       @Nullable Function<Integer, Boolean> skipFunction) {
+    public void update(@NotNull InventoryRenderer renderer, @NotNull InventoryBuilder<T> builder, @NotNull T object) {
+        PaginatedState<T> state = renderer.getState(this);
+        if (state == null) return;
+
+        state.getLoader().invalidate(object);
+
+        List<Integer> values = state.getObjects().get(object);
+        if (values == null) return;
+
+        ItemStack item = null;
+        for (int slot : values) {
+            // the slots overwritten by a later format or page button belong to them
+            if (!isDisplayed(renderer, slot, object)) continue;
+
+            if (item == null) {
+                item = InventoryHelper.getRenderCache().getItem(object, renderer.getInventory(), builder.getProperties());
+            }
+
+            renderer.update(slot, item);
+        }
+    }
+
+    @Override
+    public @NotNull Collection<T> getDisplayedObjects(@NotNull InventoryRenderer renderer) {
+        PaginatedState<T> state = renderer.getState(this);
+        if (state == null) return Collections.emptyList();
+
+        List<T> objects = new ArrayList<>(state.getObjects().size());
+        for (Map.Entry<T, List<Integer>> entry : state.getObjects().entrySet()) {
+            for (int slot : entry.getValue()) {
+                if (isDisplayed(renderer, slot, entry.getKey())) {
+                    objects.add(entry.getKey());
+                    break;
+                }
+            }
+        }
+
+        return objects;
+    }
+
+    private boolean isDisplayed(InventoryRenderer renderer, int slot, T object) {
+        return isValid(renderer, slot) && renderer.getObject(slot) == object;
+    }
+
+    private ItemStack render(PageLoader<T> loader, LoadedPage<T> loaded, T value,
+                             InventoryRenderer renderer, InventoryBuilder<T> builder) {
+
+        if (!loader.isCaching()) {
+            return InventoryHelper.getRenderCache().getItem(value, renderer.getInventory(), builder.getProperties());
+        }
+
+        return loaded.render(value, object -> InventoryHelper.getRenderCache().getItem(object, renderer.getInventory(), builder.getProperties()));
+    }
+
+    private ItemStack render(ItemStack[] items, int index, PageLoader<T> loader, LoadedPage<T> loaded, T value,
+                             InventoryRenderer renderer, InventoryBuilder<T> builder) {
 
-        slots.clear();
+        if (items == null || !(value instanceof ThreadSafeItem) || (loader.isCaching() && loaded.isRendered(value))) {
+            return render(loader, loaded, value, renderer, builder);
+        }
+
+        ItemStack item = items[index];
+        return loader.isCaching() ? loaded.render(value, object -> item) : item;
+    }
 
-        int slot = builder.getStartSlot();
-        int exit = builder.getExitSlot();
-        int size = builder.getPageSize();
-        int page = builder.getCurrentPage();
+    private int[] getSlots(List<T> values, SlotLayout layout) {
+        int[] slots = new int[values.size()];
+        Arrays.fill(slots, -1);
 
-        List<T> values = size <= 0 ? items : ListUtil.getSublist(items, page, size);
-        for(int index = 0; index < values.size() && slot < exit; slot++) {
+        // an InventorySlot is placed in its own slot, but also uses up the current slot of walk
+        int slot = layout.getStart();
+        for (int index = 0; index < values.size() && slot < layout.getEnd(); slot++) {
 
             T value = values.get(index);
 
             if (value instanceof InventorySlot) {
-                InventorySlot inventorySlot = (InventorySlot) value;
-
-                int itemSlot = inventorySlot.getSlot();
+                int itemSlot = ((InventorySlot) value).getSlot();
                 if (itemSlot > 0) {
-                    inventory.setItem(itemSlot, value.getItem(inventory, builder.getProperties()));
-                    slots.put(itemSlot, value);
+                    slots[index] = itemSlot;
                 }
 
                 index++;
                 continue;
             }
 
-            if(skipFunction != null && skipFunction.apply(slot)) continue;
+            if (!layout.isUsable(slot)) continue;
 
-            inventory.setItem(slot, value.getItem(inventory, builder.getProperties()));
-            slots.put(slot, value);
+            slots[index++] = slot;
+        }
+
+        return slots;
+    }
+
+    private ItemStack[] renderParallel(PageLoader<T> loader, LoadedPage<T> loaded, int[] slots,
+                                       InventoryRenderer renderer, InventoryBuilder<T> builder) {
+
+        List<T> values = loaded.getValues();
+
+        // only the values placed by the format are rendered
+        List<Integer> indexes = new ArrayList<>();
+        for (int index = 0; index < values.size(); index++) {
+            if (slots[index] < 0) continue;
+
+            T value = values.get(index);
+            if (value instanceof ThreadSafeItem && !(loader.isCaching() && loaded.isRendered(value))) {
+                indexes.add(index);
+            }
+        }
+
+        // the cost of the fork-join pool only pays off for larger pages
+        if (indexes.size() < PARALLEL_THRESHOLD) return null;
+
+        Inventory inventory = renderer.getInventory();
+        InventoryProperty properties = builder.getProperties();
 
-            index++;
+        ItemStack[] items = new ItemStack[values.size()];
+        RenderCache cache = InventoryHelper.getRenderCache();
+        indexes.parallelStream().forEach(index -> items[index] = cache.getItem(values.get(index), inventory, properties));
+
+        return items;
+    }
+
+    private void place(InventoryRenderer renderer, PaginatedState<T> state, int slot, ItemStack item, T value) {
+        if (isValid(renderer, slot)) {
+            List<Integer> previous = state.getObjects().get(renderer.getObject(slot));
+            if (previous != null) {
+                previous.remove(Integer.valueOf(slot));
+            }
         }
 
+        renderer.setItem(slot, item, this, value);
+        state.getObjects().computeIfAbsent(value, key -> new ArrayList<>(1)).add(slot);
     }
 
     @Override
@@ -91,11 +238,11 @@ public class PaginatedObjectFormat<T extends InventoryItem> implements Paginated
         if (!(o instanceof PaginatedObjectFormat)) return false;
 
         PaginatedObjectFormat<?> that = (PaginatedObjectFormat<?>) o;
-        return getItems().equals(that.getItems());
+        return getKey().equals(that.getKey());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getItems());
+        return getKey().hashCode();
     }
 }
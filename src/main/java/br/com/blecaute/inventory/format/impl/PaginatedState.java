@@ -0,0 +1,27 @@
+package br.com.blecaute.inventory.format.impl;
+
+import br.com.blecaute.inventory.render.InventoryRenderer;
+import br.com.blecaute.inventory.source.PageLoader;
+import br.com.blecaute.inventory.source.PageSource;
+import lombok.Getter;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The state of a paginated format kept in each @{@link InventoryRenderer}.
+ *
+ * @param <V> The type of values
+ */
+@Getter
+class PaginatedState<V> {
+
+    private final PageLoader<V> loader;
+    private final Map<V, List<Integer>> objects = new IdentityHashMap<>();
+
+    PaginatedState(PageSource<V> source) {
+        this.loader = new PageLoader<>(source);
+    }
+
+}
@@ -4,10 +4,10 @@ import br.com.blecaute.inventory.InventoryBuilder;
 import br.com.blecaute.inventory.callback.ItemCallback;
 import br.com.blecaute.inventory.event.ItemClickEvent;
 import br.com.blecaute.inventory.format.InventoryFormat;
+import br.com.blecaute.inventory.render.InventoryRenderer;
 import br.com.blecaute.inventory.type.InventoryItem;
 import lombok.Data;
 import org.bukkit.event.inventory.InventoryClickEvent;
-import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -23,20 +23,28 @@ public class SimpleItemFormat<T extends InventoryItem> implements InventoryForma
     @Nullable private final ItemCallback<T> callBack;
 
     @Override
-    public boolean isValid(int slot) {
-        return this.slot == slot;
+    public @NotNull Object getKey() {
+        return slot;
     }
 
     @Override
-    public void accept(@NotNull InventoryClickEvent event, @NotNull InventoryBuilder<T> builder) {
+    public void accept(@NotNull InventoryClickEvent event, @NotNull ItemStack itemStack,
+                       @NotNull InventoryBuilder<T> builder, @Nullable T object) {
         if (this.itemStack != null && this.callBack != null) {
-            this.callBack.accept(new ItemClickEvent<>(event, itemStack, builder.getProperties()));
+            this.callBack.accept(new ItemClickEvent<>(event, this.itemStack, builder.getProperties()));
         }
     }
 
     @Override
-    public void format(@NotNull Inventory inventory, @NotNull InventoryBuilder<T> builder) {
-        inventory.setItem(slot, itemStack);
+    public void format(@NotNull InventoryRenderer renderer, @NotNull InventoryBuilder<T> builder) {
+        renderer.setItem(slot, itemStack, this, null);
+    }
+
+    @Override
+    public void update(@NotNull InventoryRenderer renderer, @NotNull InventoryBuilder<T> builder, int slot) {
+        if (this.slot == slot) {
+            renderer.update(slot, itemStack);
+        }
     }
 
     @Override
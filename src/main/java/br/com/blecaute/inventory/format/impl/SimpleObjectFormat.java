@@ -1,17 +1,21 @@
 package br.com.blecaute.inventory.format.impl;
 
 import br.com.blecaute.inventory.InventoryBuilder;
+import br.com.blecaute.inventory.InventoryHelper;
 import br.com.blecaute.inventory.callback.ObjectCallback;
 import br.com.blecaute.inventory.event.ObjectClickEvent;
 import br.com.blecaute.inventory.format.InventoryFormat;
+import br.com.blecaute.inventory.render.InventoryRenderer;
 import br.com.blecaute.inventory.type.InventoryItem;
 import lombok.Data;
 import lombok.NonNull;
 import org.bukkit.event.inventory.InventoryClickEvent;
-import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Objects;
 
 @Data
@@ -23,20 +27,41 @@ public class SimpleObjectFormat<T extends InventoryItem> implements InventoryFor
     @Nullable private final ObjectCallback<T> callBack;
 
     @Override
-    public boolean isValid(int slot) {
-        return this.slot == slot;
+    public @NotNull Object getKey() {
+        return slot;
     }
 
     @Override
-    public void accept(@NotNull InventoryClickEvent event, @NotNull InventoryBuilder<T> builder) {
+    public void accept(@NotNull InventoryClickEvent event, @NotNull ItemStack itemStack,
+                       @NotNull InventoryBuilder<T> builder, @Nullable T object) {
         if (this.callBack != null) {
-            this.callBack.accept(new ObjectClickEvent<>(event, event.getCurrentItem(), builder.getProperties(), object));
+            this.callBack.accept(new ObjectClickEvent<>(event, itemStack, builder.getProperties(), this.object));
         }
     }
 
     @Override
-    public void format(@NotNull Inventory inventory, @NotNull InventoryBuilder<T> builder) {
-        inventory.setItem(slot, object.getItem(inventory, builder.getProperties()));
+    public void format(@NotNull InventoryRenderer renderer, @NotNull InventoryBuilder<T> builder) {
+        renderer.setItem(slot, InventoryHelper.getRenderCache().getItem(object, renderer.getInventory(), builder.getProperties()), this, object);
+    }
+
+    @Override
+    public void update(@NotNull InventoryRenderer renderer, @NotNull InventoryBuilder<T> builder, int slot) {
+        if (this.slot == slot && isValid(renderer, slot)) {
+            renderer.update(slot, InventoryHelper.getRenderCache().getItem(object, renderer.getInventory(), builder.getProperties()));
+        }
+    }
+
+    @Override
+    public void update(@NotNull InventoryRenderer renderer, @NotNull InventoryBuilder<T> builder, @NotNull T object) {
+        if (this.object == object) {
+            update(renderer, builder, slot);
+        }
+    }
+
+    @Override
+    public @NotNull Collection<T> getDisplayedObjects(@NotNull InventoryRenderer renderer) {
+        // a later format may have overwritten the slot in the last frame
+        return isValid(renderer, slot) ? Collections.singletonList(object) : Collections.emptyList();
     }
 
     @Override
@@ -0,0 +1,44 @@
+package br.com.blecaute.inventory.listener;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.bukkit.entity.HumanEntity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Class responsible for limiting the rate of clicks
+ * of each player in all inventories of @{@link InventoryClickListener}
+ */
+public class ClickThrottle {
+
+    private final Map<HumanEntity, Long> clicks = new WeakHashMap<>();
+
+    /**
+     * The minimum interval between two clicks of a player, in milliseconds.
+     * The clicks aren't limited when it's 0 or less.
+     */
+    @Getter @Setter private long interval = 0;
+
+    /**
+     * Register the click of player if it respects the interval.
+     *
+     * @param human The @{@link HumanEntity}
+     * @return true if the click is allowed
+     */
+    public boolean tryClick(@NotNull HumanEntity human) {
+        if (interval <= 0) return true;
+
+        long now = System.currentTimeMillis();
+        Long last = clicks.get(human);
+
+        if (last != null && now - last < interval) {
+            return false;
+        }
+
+        clicks.put(human, now);
+        return true;
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.blecaute.inventory.listener;
 
 import br.com.blecaute.inventory.InventoryBuilder;
+import br.com.blecaute.inventory.InventoryHelper;
 import org.bukkit.Material;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -19,7 +20,7 @@ public class InventoryClickListener implements Listener {
             InventoryBuilder.CustomHolder holder = (InventoryBuilder.CustomHolder) inventoryHolder;
             ItemStack item = event.getCurrentItem();
 
-            if (item != null && item.getType() != Material.AIR) {
+            if (item != null && item.getType() != Material.AIR && holder.getConsumer() != null && InventoryHelper.getThrottle().tryClick(event.getWhoClicked())) {
                 holder.getConsumer().accept(event);
             }
 
@@ -0,0 +1,44 @@
+package br.com.blecaute.inventory.listener;
+
+import br.com.blecaute.inventory.InventoryBuilder;
+import br.com.blecaute.inventory.InventoryHelper;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.inventory.InventoryHolder;
+
+public class SessionListener implements Listener {
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onClose(InventoryCloseEvent event) {
+        InventoryHolder inventoryHolder = event.getInventory().getHolder();
+        if (inventoryHolder instanceof InventoryBuilder.CustomHolder) {
+            InventoryBuilder<?> builder = ((InventoryBuilder.CustomHolder) inventoryHolder).getBuilder();
+
+            // the player is still a viewer during the event, and may reopen it in the same tick
+            if (builder != null && InventoryHelper.getSessions().contains(builder)) {
+                Bukkit.getScheduler().runTask(InventoryHelper.getPlugin(), () -> {
+                    if (InventoryHelper.getSessions().contains(builder) && builder.getViewers().isEmpty()) {
+                        builder.release();
+                    }
+                });
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        InventoryHelper.getSessions().release(event.getPlayer());
+    }
+
+    @EventHandler
+    public void onDisable(PluginDisableEvent event) {
+        if (event.getPlugin() == InventoryHelper.getPlugin()) {
+            InventoryHelper.disable();
+        }
+    }
+}
@@ -10,6 +10,7 @@ import java.util.Map;
 public class InventoryProperty implements Cloneable {
 
     private Map<String, Object> map = new HashMap<>();
+    private boolean shared;
 
     @Nullable
     @SuppressWarnings("unchecked cast")
@@ -19,14 +20,37 @@ public class InventoryProperty implements Cloneable {
     }
 
     public void set(@NotNull String key, @NotNull Object value) {
+        if (this.shared) {
+            this.map = new HashMap<>(this.map);
+            this.shared = false;
+        }
+
         this.map.put(key, value);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        return o instanceof InventoryProperty && map.equals(((InventoryProperty) o).map);
+    }
+
+    @Override
+    public int hashCode() {
+        return map.hashCode();
+    }
+
+    /**
+     * Clone the properties. The map is shared
+     * until one of the properties is modified.
+     *
+     * @return The clone of properties
+     */
     @Override
     public InventoryProperty clone() {
         try {
             InventoryProperty property = (InventoryProperty) super.clone();
-            property.map = new HashMap<>(this.map);
+            property.shared = true;
+            this.shared = true;
 
             return property;
 
@@ -0,0 +1,115 @@
+package br.com.blecaute.inventory.registry;
+
+import br.com.blecaute.inventory.InventoryBuilder;
+import br.com.blecaute.inventory.type.InventoryItem;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiConsumer;
+
+/**
+ * The server-wide index of the @{@link InventoryItem} displayed
+ * by each @{@link InventoryBuilder}, used to update only the
+ * inventories that display an object when it changes.
+ */
+public class InventoryRegistry {
+
+    private final Map<InventoryItem, Set<InventoryBuilder<?>>> index = new IdentityHashMap<>();
+    private final Map<InventoryBuilder<?>, Set<InventoryItem>> tracked = new WeakHashMap<>();
+
+    private final Queue<InventoryItem> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Replace the objects displayed by @{@link InventoryBuilder}
+     *
+     * @param builder The @{@link InventoryBuilder}
+     * @param objects The identity set of displayed objects
+     */
+    public void track(@NotNull InventoryBuilder<?> builder, @NotNull Set<InventoryItem> objects) {
+        Set<InventoryItem> previous = tracked.put(builder, objects);
+        if (previous != null) {
+            for (InventoryItem object : previous) {
+                if (!objects.contains(object)) {
+                    unlink(object, builder);
+                }
+            }
+        }
+
+        for (InventoryItem object : objects) {
+            if (previous == null || !previous.contains(object)) {
+                index.computeIfAbsent(object, key -> Collections.newSetFromMap(new WeakHashMap<>())).add(builder);
+            }
+        }
+    }
+
+    /**
+     * Remove all objects displayed by @{@link InventoryBuilder}
+     *
+     * @param builder The @{@link InventoryBuilder}
+     */
+    public void untrack(@NotNull InventoryBuilder<?> builder) {
+        Set<InventoryItem> previous = tracked.remove(builder);
+        if (previous != null) {
+            for (InventoryItem object : previous) {
+                unlink(object, builder);
+            }
+        }
+    }
+
+    /**
+     * Mark the object as changed. The slots displaying it
+     * are updated in the next flush. This method is thread-safe.
+     *
+     * @param object The @{@link InventoryItem}
+     */
+    public void invalidate(@NotNull InventoryItem object) {
+        pending.add(object);
+    }
+
+    /**
+     * Update the slots of all changed objects, each object only once.
+     *
+     * @param updater The function that updates the slots of object in a builder
+     */
+    @SuppressWarnings("unchecked")
+    public void flush(@NotNull BiConsumer<InventoryBuilder<InventoryItem>, InventoryItem> updater) {
+        if (pending.isEmpty()) return;
+
+        Set<InventoryItem> objects = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (InventoryItem object = pending.poll(); object != null; object = pending.poll()) {
+            objects.add(object);
+        }
+
+        for (InventoryItem object : objects) {
+            Set<InventoryBuilder<?>> builders = index.get(object);
+            if (builders == null) continue;
+
+            if (builders.isEmpty()) {
+                index.remove(object);
+                continue;
+            }
+
+            for (InventoryBuilder<?> builder : new ArrayList<>(builders)) {
+                updater.accept((InventoryBuilder<InventoryItem>) builder, object);
+            }
+        }
+    }
+
+    /**
+     * Remove the objects whose builders were collected.
+     */
+    public void purge() {
+        index.values().removeIf(Set::isEmpty);
+    }
+
+    private void unlink(InventoryItem object, InventoryBuilder<?> builder) {
+        Set<InventoryBuilder<?>> builders = index.get(object);
+        if (builders == null) return;
+
+        builders.remove(builder);
+        if (builders.isEmpty()) {
+            index.remove(object);
+        }
+    }
+}
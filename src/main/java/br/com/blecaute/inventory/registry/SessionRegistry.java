@@ -0,0 +1,95 @@
+package br.com.blecaute.inventory.registry;
+
+import br.com.blecaute.inventory.InventoryBuilder;
+import org.bukkit.entity.HumanEntity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Class responsible for tracking the open sessions of @{@link InventoryBuilder}
+ *
+ * <p>A session is registered when the builder is opened and
+ * released when its last viewer closes the inventory.</p>
+ */
+public class SessionRegistry {
+
+    private final Set<InventoryBuilder<?>> sessions = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Register the session of @{@link InventoryBuilder}
+     *
+     * @param builder The @{@link InventoryBuilder}
+     */
+    public void register(@NotNull InventoryBuilder<?> builder) {
+        sessions.add(builder);
+    }
+
+    /**
+     * Unregister the session of @{@link InventoryBuilder}
+     *
+     * @param builder The @{@link InventoryBuilder}
+     */
+    public void unregister(@NotNull InventoryBuilder<?> builder) {
+        sessions.remove(builder);
+    }
+
+    /**
+     * Check if the @{@link InventoryBuilder} has a registered session.
+     *
+     * @param builder The @{@link InventoryBuilder}
+     * @return true if it's registered
+     */
+    public boolean contains(@NotNull InventoryBuilder<?> builder) {
+        return sessions.contains(builder);
+    }
+
+    /**
+     * Release the sessions viewed by the player that have no other viewers.
+     *
+     * @param human The @{@link HumanEntity}
+     */
+    public void release(@NotNull HumanEntity human) {
+        for (InventoryBuilder<?> builder : new ArrayList<>(sessions)) {
+            List<HumanEntity> viewers = builder.getViewers();
+            if (viewers.isEmpty() || (viewers.size() == 1 && viewers.contains(human))) {
+                builder.release();
+            }
+        }
+    }
+
+    /**
+     * Release the sessions that have no viewers.
+     */
+    public void purge() {
+        for (InventoryBuilder<?> builder : new ArrayList<>(sessions)) {
+            if (builder.getViewers().isEmpty()) {
+                builder.release();
+            }
+        }
+    }
+
+    /**
+     * Close and release all sessions.
+     */
+    public void releaseAll() {
+        for (InventoryBuilder<?> builder : new ArrayList<>(sessions)) {
+            for (HumanEntity human : new ArrayList<>(builder.getViewers())) {
+                human.closeInventory();
+            }
+
+            builder.release();
+        }
+
+        sessions.clear();
+    }
+
+    /**
+     * Get the amount of live sessions.
+     *
+     * @return The amount
+     */
+    public int size() {
+        return sessions.size();
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.blecaute.inventory.render;
+
+import br.com.blecaute.inventory.InventoryBuilder;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.commons.lang3.tuple.Pair;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Class responsible for reusing the closed @{@link Inventory} of @{@link InventoryBuilder}
+ * with the same size and title, instead of creating a new one for each session.
+ */
+public class InventoryPool {
+
+    private final Map<Pair<Integer, String>, Deque<Inventory>> pool = new HashMap<>();
+
+    /**
+     * The maximum number of idle inventories kept for each size and title.
+     */
+    @Getter @Setter private int capacity = 16;
+
+    /**
+     * Take an idle @{@link Inventory} from the pool.
+     *
+     * @param size  The size of inventory
+     * @param title The title of inventory
+     *
+     * @return The @{@link Inventory} or null if there is none.
+     */
+    @Nullable
+    public Inventory acquire(int size, @NotNull String title) {
+        Deque<Inventory> inventories = pool.get(Pair.of(size, title));
+        return inventories == null ? null : inventories.pollFirst();
+    }
+
+    /**
+     * Return the @{@link Inventory} to the pool.
+     * It's only kept if it has no viewers and its holder is already unbound.
+     *
+     * @param size      The size of inventory
+     * @param title     The title of inventory
+     * @param inventory The @{@link Inventory}
+     *
+     * @return true if the inventory was kept.
+     */
+    public boolean release(int size, @NotNull String title, @NotNull Inventory inventory) {
+        if (!inventory.getViewers().isEmpty()) return false;
+
+        InventoryHolder holder = inventory.getHolder();
+        if (!(holder instanceof InventoryBuilder.CustomHolder) || ((InventoryBuilder.CustomHolder) holder).getBuilder() != null) {
+            return false;
+        }
+
+        Deque<Inventory> inventories = pool.computeIfAbsent(Pair.of(size, title), key -> new ArrayDeque<>());
+        if (inventories.size() >= capacity) return false;
+
+        inventory.clear();
+        inventories.addFirst(inventory);
+
+        return true;
+    }
+
+    /**
+     * Drop all idle inventories.
+     */
+    public void clear() {
+        pool.clear();
+    }
+
+    /**
+     * Get the amount of idle inventories.
+     *
+     * @return The amount
+     */
+    public int size() {
+        int size = 0;
+        for (Deque<Inventory> inventories : pool.values()) {
+            size += inventories.size();
+        }
+
+        return size;
+    }
+}
@@ -0,0 +1,358 @@
+package br.com.blecaute.inventory.render;
+
+import br.com.blecaute.inventory.InventoryBuilder;
+import br.com.blecaute.inventory.enums.ButtonType;
+import br.com.blecaute.inventory.format.InventoryFormat;
+import br.com.blecaute.inventory.type.RefreshableItem;
+import lombok.Getter;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Class responsible for writing the frames of @{@link InventoryBuilder} in @{@link Inventory}.
+ * It keeps a shadow of the last written contents and only pushes the slots that changed.
+ *
+ * <p>Each frame also builds the slot-indexed dispatch table used
+ * to resolve clicks to its @{@link InventoryFormat} and object.</p>
+ *
+ * <p>The formats keep their per-viewer state in the renderer,
+ * so the same format can be shared by many inventories.</p>
+ */
+public class InventoryRenderer {
+
+    @Getter private final Inventory inventory;
+
+    private final ItemStack[] shadow;
+    private final ItemStack[] frame;
+
+    private final InventoryFormat<?>[] handlers;
+    private final Object[] objects;
+    private final ButtonType[] buttons;
+    private final int[] intervals;
+    private final SlotAnimation[] animations;
+
+    private final BitSet pending = new BitSet();
+    private final long[] clicks;
+
+    private final Map<InventoryFormat<?>, Object> states = new IdentityHashMap<>();
+
+    private boolean invalid = true;
+
+    /**
+     * If the last commit wrote all slots without comparing them,
+     * so the viewers need a full sync of inventory.
+     */
+    @Getter private boolean fullCommit;
+
+    /**
+     * If the last frame has any @{@link RefreshableItem} or @{@link SlotAnimation}
+     */
+    @Getter private boolean live;
+
+    /**
+     * Create instance of @{@link InventoryRenderer}
+     *
+     * @param inventory The @{@link Inventory}
+     */
+    public InventoryRenderer(@NotNull Inventory inventory) {
+        this.inventory = inventory;
+        this.shadow = new ItemStack[inventory.getSize()];
+        this.frame = new ItemStack[inventory.getSize()];
+
+        this.handlers = new InventoryFormat<?>[inventory.getSize()];
+        this.objects = new Object[inventory.getSize()];
+        this.buttons = new ButtonType[inventory.getSize()];
+        this.intervals = new int[inventory.getSize()];
+        this.animations = new SlotAnimation[inventory.getSize()];
+        this.clicks = new long[inventory.getSize()];
+    }
+
+    /**
+     * Start a new frame.
+     */
+    public void begin() {
+        Arrays.fill(frame, null);
+        Arrays.fill(handlers, null);
+        Arrays.fill(objects, null);
+        Arrays.fill(buttons, null);
+        Arrays.fill(intervals, 0);
+        Arrays.fill(animations, null);
+    }
+
+    /**
+     * Set item in the current frame.
+     *
+     * @param slot      The slot
+     * @param itemStack The @{@link ItemStack}
+     */
+    public void setItem(int slot, @Nullable ItemStack itemStack) {
+        setItem(slot, itemStack, null, null);
+    }
+
+    /**
+     * Set item in the current frame and the @{@link InventoryFormat} that handles its clicks.
+     *
+     * @param slot      The slot
+     * @param itemStack The @{@link ItemStack}
+     * @param handler   The @{@link InventoryFormat}
+     * @param object    The object displayed in slot
+     */
+    public void setItem(int slot, @Nullable ItemStack itemStack, @Nullable InventoryFormat<?> handler, @Nullable Object object) {
+        frame[slot] = itemStack;
+        handlers[slot] = handler;
+        objects[slot] = object;
+        buttons[slot] = null;
+        intervals[slot] = object instanceof RefreshableItem ? Math.max(0, ((RefreshableItem) object).getRefreshInterval()) : 0;
+        animations[slot] = null;
+    }
+
+    /**
+     * Set animation in the current frame.
+     *
+     * @param slot      The slot
+     * @param animation The @{@link SlotAnimation}
+     * @param tick      The current tick
+     * @param handler   The @{@link InventoryFormat}
+     */
+    public void setAnimation(int slot, @NotNull SlotAnimation animation, long tick, @Nullable InventoryFormat<?> handler) {
+        setItem(slot, animation.getFrame(tick), handler, null);
+        animations[slot] = animation;
+    }
+
+    /**
+     * Write the current frame of all animated slots.
+     * The frames are shared, so they are written without copies.
+     *
+     * @param tick The current tick
+     */
+    public void animate(long tick) {
+        for (int slot = 0; slot < animations.length; slot++) {
+            SlotAnimation animation = animations[slot];
+            if (animation == null) continue;
+
+            ItemStack itemStack = animation.getFrame(tick);
+            if (frame[slot] != itemStack) {
+                frame[slot] = itemStack;
+                write(slot, itemStack, false);
+            }
+        }
+    }
+
+    /**
+     * Set button in the current frame.
+     *
+     * @param slot      The slot
+     * @param itemStack The @{@link ItemStack}
+     * @param type      The @{@link ButtonType}
+     */
+    public void setButton(int slot, @NotNull ItemStack itemStack, @NotNull ButtonType type) {
+        setItem(slot, itemStack);
+        buttons[slot] = type;
+    }
+
+    /**
+     * Get the @{@link InventoryFormat} that handles the clicks of slot.
+     *
+     * @param slot The slot
+     * @return The @{@link InventoryFormat}
+     */
+    @Nullable
+    public InventoryFormat<?> getHandler(int slot) {
+        return slot < 0 || slot >= handlers.length ? null : handlers[slot];
+    }
+
+    /**
+     * Get the object displayed in slot.
+     *
+     * @param slot The slot
+     * @return The object
+     */
+    @Nullable
+    public Object getObject(int slot) {
+        return slot < 0 || slot >= objects.length ? null : objects[slot];
+    }
+
+    /**
+     * Get the @{@link ButtonType} displayed in slot.
+     *
+     * @param slot The slot
+     * @return The @{@link ButtonType}
+     */
+    @Nullable
+    public ButtonType getButton(int slot) {
+        return slot < 0 || slot >= buttons.length ? null : buttons[slot];
+    }
+
+    /**
+     * Call the consumer with all slots that must be refreshed in the tick.
+     *
+     * @param tick      The current tick
+     * @param consumer  The consumer of slots
+     */
+    public void forEachDue(long tick, @NotNull IntConsumer consumer) {
+        for (int slot = 0; slot < intervals.length; slot++) {
+            int interval = intervals[slot];
+            if (interval > 0 && tick % interval == 0) {
+                consumer.accept(slot);
+            }
+        }
+    }
+
+    /**
+     * Register the click in slot if it respects the interval.
+     *
+     * @param slot      The slot
+     * @param interval  The minimum interval between clicks, in milliseconds
+     * @return true if the click is allowed
+     */
+    public boolean tryClick(int slot, long interval) {
+        if (interval <= 0 || slot < 0 || slot >= clicks.length) return true;
+
+        long now = System.currentTimeMillis();
+        if (now - clicks[slot] < interval) {
+            return false;
+        }
+
+        clicks[slot] = now;
+        return true;
+    }
+
+    /**
+     * Check if the async callback of slot is still running.
+     *
+     * @param slot The slot
+     * @return true if it's running
+     */
+    public boolean isPending(int slot) {
+        return pending.get(slot);
+    }
+
+    /**
+     * Set if the async callback of slot is running.
+     *
+     * @param slot      The slot
+     * @param running   If it's running
+     */
+    public void setPending(int slot, boolean running) {
+        pending.set(slot, running);
+    }
+
+    /**
+     * Get item of the current frame.
+     *
+     * @param slot The slot
+     * @return The @{@link ItemStack}
+     */
+    @Nullable
+    public ItemStack getItem(int slot) {
+        return frame[slot];
+    }
+
+    /**
+     * Replace the item of slot and write it immediately
+     * in @{@link Inventory} if it differs from the last written content.
+     *
+     * @param slot      The slot
+     * @param itemStack The @{@link ItemStack}
+     * @return true if slot was written.
+     */
+    public boolean update(int slot, @Nullable ItemStack itemStack) {
+        frame[slot] = itemStack;
+        return write(slot, itemStack, true);
+    }
+
+    /**
+     * Get the state of @{@link InventoryFormat} in this renderer,
+     * creating it with the supplier if it doesn't exist.
+     *
+     * @param format    The @{@link InventoryFormat}
+     * @param supplier  The @{@link Supplier} of state
+     * @param <S>       The type of state
+     *
+     * @return The state
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public <S> S getState(@NotNull InventoryFormat<?> format, @NotNull Supplier<S> supplier) {
+        return (S) states.computeIfAbsent(format, key -> supplier.get());
+    }
+
+    /**
+     * Get the state of @{@link InventoryFormat} in this renderer.
+     *
+     * @param format    The @{@link InventoryFormat}
+     * @param <S>       The type of state
+     *
+     * @return The state or null if it doesn't exist.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <S> S getState(@NotNull InventoryFormat<?> format) {
+        return (S) states.get(format);
+    }
+
+    /**
+     * Remove the state of formats that are no longer registered.
+     *
+     * @param formats The registered formats
+     */
+    public void retainStates(@NotNull Collection<? extends InventoryFormat<?>> formats) {
+        Set<InventoryFormat<?>> registered = Collections.newSetFromMap(new IdentityHashMap<>());
+        registered.addAll(formats);
+
+        states.keySet().retainAll(registered);
+    }
+
+    /**
+     * Write the slots of the current frame that differ from
+     * the last written contents in @{@link Inventory}
+     *
+     * @return The number of changed slots.
+     */
+    public int commit() {
+        int changed = 0;
+        live = false;
+
+        for (int slot = 0; slot < frame.length; slot++) {
+            if (write(slot, frame[slot], animations[slot] == null)) {
+                changed++;
+            }
+
+            live |= intervals[slot] > 0 || animations[slot] != null;
+        }
+
+        fullCommit = invalid;
+        invalid = false;
+
+        return changed;
+    }
+
+    /**
+     * Force the next commit to write all slots.
+     */
+    public void invalidate() {
+        this.invalid = true;
+    }
+
+    private boolean write(int slot, ItemStack itemStack, boolean copy) {
+        if (!invalid && isSame(shadow[slot], itemStack)) {
+            return false;
+        }
+
+        inventory.setItem(slot, itemStack);
+        shadow[slot] = itemStack == null || !copy ? itemStack : itemStack.clone();
+
+        return true;
+    }
+
+    private boolean isSame(ItemStack first, ItemStack second) {
+        if (first == second) return true;
+        return first != null && first.equals(second);
+    }
+}
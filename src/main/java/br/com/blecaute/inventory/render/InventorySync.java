@@ -0,0 +1,46 @@
+package br.com.blecaute.inventory.render;
+
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Class responsible for sending the inventory of players to the client
+ * at most once per tick, no matter how many times it was requested.
+ */
+public class InventorySync {
+
+    private final Set<Player> pending = new LinkedHashSet<>();
+
+    /**
+     * Request the sync of all players in the end of tick.
+     *
+     * @param viewers The viewers of inventory
+     */
+    public void mark(@NotNull Collection<? extends HumanEntity> viewers) {
+        for (HumanEntity human : viewers) {
+            if (human instanceof Player) {
+                pending.add((Player) human);
+            }
+        }
+    }
+
+    /**
+     * Send the inventory of all requested players.
+     */
+    public void flush() {
+        if (pending.isEmpty()) return;
+
+        for (Player player : pending) {
+            if (player.isOnline()) {
+                player.updateInventory();
+            }
+        }
+
+        pending.clear();
+    }
+}
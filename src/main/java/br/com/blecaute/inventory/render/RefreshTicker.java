@@ -0,0 +1,77 @@
+package br.com.blecaute.inventory.render;
+
+import br.com.blecaute.inventory.InventoryBuilder;
+import br.com.blecaute.inventory.type.RefreshableItem;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Class responsible for refreshing the slots of @{@link RefreshableItem}
+ * and advancing the @{@link SlotAnimation} of all open @{@link InventoryBuilder} in a single task.
+ *
+ * <p>Only the due slots are updated, and the builders
+ * are dropped as soon as they have no viewers.</p>
+ */
+public class RefreshTicker {
+
+    private final Map<InventoryBuilder<?>, InventoryRenderer> builders = new IdentityHashMap<>();
+
+    /**
+     * Track the live slots of @{@link InventoryBuilder}
+     *
+     * @param builder   The @{@link InventoryBuilder}
+     * @param renderer  The @{@link InventoryRenderer} of builder
+     */
+    public void track(@NotNull InventoryBuilder<?> builder, @NotNull InventoryRenderer renderer) {
+        if (renderer.isLive()) {
+            builders.put(builder, renderer);
+        } else {
+            builders.remove(builder);
+        }
+    }
+
+    /**
+     * Stop tracking the @{@link InventoryBuilder}
+     *
+     * @param builder The @{@link InventoryBuilder}
+     */
+    public void untrack(@NotNull InventoryBuilder<?> builder) {
+        builders.remove(builder);
+    }
+
+    /**
+     * Update the due slots of all tracked builders.
+     *
+     * @param tick The current tick
+     */
+    public void tick(long tick) {
+        if (builders.isEmpty()) return;
+
+        Iterator<Map.Entry<InventoryBuilder<?>, InventoryRenderer>> iterator = builders.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<InventoryBuilder<?>, InventoryRenderer> entry = iterator.next();
+
+            InventoryRenderer renderer = entry.getValue();
+            if (renderer.getInventory().getViewers().isEmpty()) {
+                iterator.remove();
+                continue;
+            }
+
+            InventoryBuilder<?> builder = entry.getKey();
+            renderer.animate(tick);
+            renderer.forEachDue(tick, builder::update);
+        }
+    }
+
+    /**
+     * Get the amount of tracked builders.
+     *
+     * @return The amount
+     */
+    public int size() {
+        return builders.size();
+    }
+}
@@ -0,0 +1,188 @@
+package br.com.blecaute.inventory.render;
+
+import br.com.blecaute.inventory.property.InventoryProperty;
+import br.com.blecaute.inventory.type.InventoryItem;
+import br.com.blecaute.inventory.type.VersionedItem;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A LRU cache of the @{@link ItemStack} rendered by @{@link VersionedItem},
+ * reused by all inventories with equal properties until the version of item changes.
+ *
+ * <p>The other @{@link InventoryItem} are always rendered again.
+ * This class can be used from any thread.</p>
+ */
+public class RenderCache {
+
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75F, true);
+    private final Map<Object, Set<Key>> keys = new IdentityHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    @Getter private int capacity = 1024;
+
+    /**
+     * Get the rendered @{@link ItemStack} of object,
+     * rendering it only if it isn't cached with the same version.
+     *
+     * @param object     The @{@link InventoryItem}
+     * @param inventory  The @{@link Inventory}
+     * @param properties The @{@link InventoryProperty}
+     *
+     * @return The @{@link ItemStack}
+     */
+    @Nullable
+    public ItemStack getItem(@NotNull InventoryItem object, @NotNull Inventory inventory, @NotNull InventoryProperty properties) {
+        if (!(object instanceof VersionedItem) || capacity <= 0) {
+            return object.getItem(inventory, properties);
+        }
+
+        Key key = new Key(object, properties);
+        long version = ((VersionedItem) object).getVersion();
+
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.version == version) {
+                hits.incrementAndGet();
+                return entry.item;
+            }
+        }
+
+        misses.incrementAndGet();
+
+        // rendered outside the lock, so parallel renders don't wait for each other
+        ItemStack item = object.getItem(inventory, properties);
+
+        synchronized (this) {
+            // the properties of key are copied, since the inventory may change them later
+            Key copy = new Key(object, properties.clone());
+            if (entries.put(copy, new Entry(version, item)) == null) {
+                keys.computeIfAbsent(object, o -> new HashSet<>()).add(copy);
+            }
+
+            trim();
+        }
+
+        return item;
+    }
+
+    /**
+     * Set the maximum number of cached items.
+     *
+     * @param capacity The number of items, or 0 to disable the cache
+     */
+    public synchronized void setCapacity(int capacity) {
+        this.capacity = Math.max(0, capacity);
+        trim();
+    }
+
+    /**
+     * Forget the rendered @{@link ItemStack} of object.
+     *
+     * @param object The @{@link InventoryItem}
+     */
+    public synchronized void invalidate(@NotNull InventoryItem object) {
+        Set<Key> removed = keys.remove(object);
+        if (removed == null) return;
+
+        for (Key key : removed) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Forget all rendered items.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        keys.clear();
+    }
+
+    /**
+     * Get the number of renders served by the cache.
+     *
+     * @return The number of hits
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Get the number of renders that weren't in the cache.
+     *
+     * @return The number of misses
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Reset the hit and miss counters.
+     */
+    public void resetStatistics() {
+        hits.set(0);
+        misses.set(0);
+    }
+
+    /**
+     * Get the amount of cached items.
+     *
+     * @return The amount
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void trim() {
+        Iterator<Key> iterator = entries.keySet().iterator();
+        while (entries.size() > capacity && iterator.hasNext()) {
+            Key key = iterator.next();
+            iterator.remove();
+
+            Set<Key> removed = keys.get(key.object);
+            if (removed != null && removed.remove(key) && removed.isEmpty()) {
+                keys.remove(key.object);
+            }
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final long version;
+        private final ItemStack item;
+    }
+
+    @AllArgsConstructor
+    private static class Key {
+
+        private final Object object;
+        private final InventoryProperty properties;
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+
+            Key that = (Key) o;
+            return that.object == object && that.properties.equals(properties);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(object) + properties.hashCode();
+        }
+    }
+}
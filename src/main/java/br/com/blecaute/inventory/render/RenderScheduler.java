@@ -0,0 +1,120 @@
+package br.com.blecaute.inventory.render;
+
+import br.com.blecaute.inventory.InventoryBuilder;
+import lombok.Getter;
+import lombok.Setter;
+import org.bukkit.entity.HumanEntity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class responsible for formatting the scheduled @{@link InventoryBuilder} on each tick.
+ *
+ * <p>Repeated requests of the same builder are merged until it's formatted, and the
+ * builders are formatted in round-robin between their viewers, stopping when the time
+ * budget of the tick is over. The remaining builders are formatted in the next ticks.</p>
+ *
+ * <p>The idle tasks, such as prefetches, only run with the budget left after all builders are formatted.</p>
+ */
+public class RenderScheduler {
+
+    /**
+     * The time, in nanoseconds, that can be spent formatting on each tick.
+     */
+    @Getter @Setter private long budget = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final Set<InventoryBuilder<?>> scheduled = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<Object, Deque<InventoryBuilder<?>>> queues = new HashMap<>();
+    private final Deque<Object> owners = new ArrayDeque<>();
+
+    private final Deque<Runnable> idle = new ArrayDeque<>();
+
+    /**
+     * Schedule the format of @{@link InventoryBuilder}
+     *
+     * @param builder The @{@link InventoryBuilder}
+     */
+    public void schedule(@NotNull InventoryBuilder<?> builder) {
+        if (!scheduled.add(builder)) return;
+
+        Object owner = getOwner(builder);
+        Deque<InventoryBuilder<?>> queue = queues.get(owner);
+        if (queue == null) {
+            queue = new ArrayDeque<>();
+            queues.put(owner, queue);
+            owners.add(owner);
+        }
+
+        queue.add(builder);
+    }
+
+    /**
+     * Schedule a task to run when there is budget left after the formats.
+     *
+     * @param task The task
+     */
+    public void scheduleIdle(@NotNull Runnable task) {
+        idle.add(task);
+    }
+
+    /**
+     * Remove @{@link InventoryBuilder} from the scheduled formats.
+     *
+     * @param builder The @{@link InventoryBuilder}
+     */
+    public void cancel(@NotNull InventoryBuilder<?> builder) {
+        if (!scheduled.remove(builder)) return;
+
+        for (Deque<InventoryBuilder<?>> queue : queues.values()) {
+            if (queue.remove(builder)) break;
+        }
+    }
+
+    /**
+     * Get the number of scheduled formats.
+     *
+     * @return The number of builders
+     */
+    public int size() {
+        return scheduled.size();
+    }
+
+    /**
+     * Format the scheduled builders until the budget is over, and then run the idle tasks
+     * with the budget left. At least one builder is formatted on each flush.
+     */
+    public void flush() {
+        long deadline = System.nanoTime() + budget;
+        boolean formatted = false;
+
+        while (!owners.isEmpty()) {
+            if (formatted && System.nanoTime() >= deadline) return;
+
+            Object owner = owners.poll();
+            Deque<InventoryBuilder<?>> queue = queues.get(owner);
+
+            InventoryBuilder<?> builder = queue.poll();
+            if (queue.isEmpty()) {
+                queues.remove(owner);
+            } else {
+                owners.add(owner);
+            }
+
+            if (builder == null || !scheduled.remove(builder)) continue;
+
+            builder.format();
+            formatted = true;
+        }
+
+        while (!idle.isEmpty() && System.nanoTime() < deadline) {
+            idle.poll().run();
+        }
+    }
+
+    private Object getOwner(InventoryBuilder<?> builder) {
+        List<HumanEntity> viewers = builder.getViewers();
+        return viewers.isEmpty() ? builder : viewers.get(0).getUniqueId();
+    }
+}
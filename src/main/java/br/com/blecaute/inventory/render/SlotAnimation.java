@@ -0,0 +1,61 @@
+package br.com.blecaute.inventory.render;
+
+import br.com.blecaute.inventory.exception.InventoryBuilderException;
+import lombok.Getter;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Immutable sequence of @{@link ItemStack} frames displayed in a slot.
+ *
+ * <p>The frames are built once and shared by all viewers of the animation.</p>
+ */
+public class SlotAnimation {
+
+    private final ItemStack[] frames;
+
+    @Getter private final int interval;
+
+    /**
+     * Create instance of @{@link SlotAnimation}
+     *
+     * @param interval  The ticks between frames
+     * @param frames    The frames
+     */
+    public SlotAnimation(int interval, @NotNull ItemStack... frames) {
+        if (interval < 1) {
+            throw new InventoryBuilderException("The interval of animation must be positive");
+        }
+
+        if (frames.length == 0) {
+            throw new InventoryBuilderException("The animation must have at least one frame");
+        }
+
+        this.interval = interval;
+        this.frames = new ItemStack[frames.length];
+
+        for (int index = 0; index < frames.length; index++) {
+            this.frames[index] = frames[index].clone();
+        }
+    }
+
+    /**
+     * Get the frame displayed in the tick.
+     *
+     * @param tick The tick
+     * @return The @{@link ItemStack}
+     */
+    @NotNull
+    public ItemStack getFrame(long tick) {
+        return frames[(int) ((tick / interval) % frames.length)];
+    }
+
+    /**
+     * Get the amount of frames.
+     *
+     * @return The amount
+     */
+    public int size() {
+        return frames.length;
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.blecaute.inventory.render;
+
+import br.com.blecaute.inventory.InventoryBuilder;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * The compiled slots where the paginated formats of @{@link InventoryBuilder} place their items.
+ * It's built once from the start, exit and skip settings and reused by every render.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SlotLayout {
+
+    /**
+     * The first slot of layout.
+     */
+    @Getter private final int start;
+
+    /**
+     * The slot after the last slot of layout.
+     */
+    @Getter private final int end;
+
+    private final long[] mask;
+    private final int[] slots;
+
+    /**
+     * Compile the @{@link SlotLayout}
+     *
+     * @param size  The size of inventory
+     * @param start The slot to start the place of items
+     * @param exit  The slot to stop the place of items
+     * @param skip  The @{@link Function} to check the skipped slots
+     *
+     * @return The @{@link SlotLayout}
+     */
+    @NotNull
+    public static SlotLayout compile(int size, int start, int exit, @Nullable Function<Integer, Boolean> skip) {
+        long[] mask = new long[(size + 63) >>> 6];
+        int[] slots = new int[size];
+        int count = 0;
+
+        start = Math.max(0, start);
+        int end = Math.max(start, Math.min(exit, size));
+
+        for (int slot = start; slot < end; slot++) {
+            if (skip != null && Boolean.TRUE.equals(skip.apply(slot))) continue;
+
+            mask[slot >>> 6] |= 1L << slot;
+            slots[count++] = slot;
+        }
+
+        return new SlotLayout(start, end, mask, Arrays.copyOf(slots, count));
+    }
+
+    /**
+     * Check if items can be placed in slot.
+     *
+     * @param slot The slot
+     * @return true if slot is usable.
+     */
+    public boolean isUsable(int slot) {
+        return slot >= 0 && (slot >>> 6) < mask.length && (mask[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    /**
+     * Get the usable slot at position.
+     *
+     * @param index The position
+     * @return The slot
+     */
+    public int getSlot(int index) {
+        return slots[index];
+    }
+
+    /**
+     * Get the number of usable slots.
+     *
+     * @return The number of slots
+     */
+    public int size() {
+        return slots.length;
+    }
+}
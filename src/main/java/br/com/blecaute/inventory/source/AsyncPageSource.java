@@ -0,0 +1,35 @@
+package br.com.blecaute.inventory.source;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The @{@link PageSource} whose pages are loaded asynchronously.
+ * While a page is loading, the paginated slots display the placeholder item.
+ *
+ * @param <T> The type of objects
+ */
+public interface AsyncPageSource<T> extends PageSource<T> {
+
+    /**
+     * Load the objects of page.
+     *
+     * @param page The page, starting at 1
+     * @param size The number of objects on each page, or
+     *             a value lower than 1 to get all objects.
+     *
+     * @return The @{@link CompletableFuture} of objects of page
+     */
+    @NotNull CompletableFuture<List<T>> loadPage(int page, int size);
+
+    /**
+     * Get the objects of page waiting for the load.
+     */
+    @Override
+    default @NotNull List<T> getPage(int page, int size) {
+        return loadPage(page, size).join();
+    }
+
+}
@@ -0,0 +1,144 @@
+package br.com.blecaute.inventory.source;
+
+import br.com.blecaute.inventory.InventoryBuilder;
+import br.com.blecaute.inventory.exception.InventoryBuilderException;
+import lombok.Getter;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * The @{@link PageSource} of an @{@link Iterator} consumed lazily.
+ *
+ * <p>The objects are only pulled when a page needs them, and only the last pages are
+ * kept in a bounded buffer. The pages before the buffer can't be read again and are empty.</p>
+ *
+ * <p>The size is the number of objects pulled so far, so the iterator can be unbounded.
+ * Without a page size, only the objects that fit in an inventory are pulled.</p>
+ *
+ * <p>The buffer is the position of a single viewer, so the source can only be
+ * displayed by one @{@link InventoryBuilder} and not by its clones or template sessions.</p>
+ *
+ * @param <T> The type of objects
+ */
+public class IteratorPageSource<T> implements PageSource<T> {
+
+    private static final int DEFAULT_BUFFER = 8;
+    private static final int MAX_SLOTS = 54;
+
+    private final Iterator<T> iterator;
+    private final List<T> buffer = new ArrayList<>();
+
+    /**
+     * The number of past pages kept in buffer.
+     */
+    @Getter private final int bufferPages;
+
+    private int offset;
+
+    private WeakReference<InventoryBuilder<?>> owner;
+
+    /**
+     * Create instance of @{@link IteratorPageSource}
+     *
+     * @param iterator The @{@link Iterator} of objects
+     */
+    public IteratorPageSource(@NonNull Iterator<T> iterator) {
+        this(iterator, DEFAULT_BUFFER);
+    }
+
+    /**
+     * Create instance of @{@link IteratorPageSource}
+     *
+     * @param iterator      The @{@link Iterator} of objects
+     * @param bufferPages   The number of past pages kept in buffer
+     */
+    public IteratorPageSource(@NonNull Iterator<T> iterator, int bufferPages) {
+        this.iterator = iterator;
+        this.bufferPages = Math.max(1, bufferPages);
+    }
+
+    /**
+     * Create instance of @{@link IteratorPageSource} of a @{@link Stream}
+     *
+     * @param stream The @{@link Stream} of objects
+     * @param <T>    The type of objects
+     *
+     * @return The @{@link IteratorPageSource}
+     */
+    @NotNull
+    public static <T> IteratorPageSource<T> of(@NonNull Stream<T> stream) {
+        return new IteratorPageSource<>(stream.iterator());
+    }
+
+    /**
+     * Claim this source to the @{@link InventoryBuilder}.
+     * It's called automatically by the paginated formats.
+     *
+     * @param builder The @{@link InventoryBuilder}
+     * @throws InventoryBuilderException if it's displayed by another builder
+     */
+    public void claim(@NotNull InventoryBuilder<?> builder) {
+        InventoryBuilder<?> current = owner == null ? null : owner.get();
+        if (current == builder) return;
+
+        if (current != null) {
+            throw new InventoryBuilderException("The IteratorPageSource can only be displayed by one InventoryBuilder");
+        }
+
+        this.owner = new WeakReference<>(builder);
+    }
+
+    @Override
+    public @NotNull List<T> getPage(int page, int size) {
+        // the iterator may be unbounded, so only the first inventory is pulled
+        if (size <= 0) {
+            pull(MAX_SLOTS);
+            return new ArrayList<>(buffer.subList(0, Math.max(0, Math.min(MAX_SLOTS - offset, buffer.size()))));
+        }
+
+        int start = Math.max(0, (page - 1) * size);
+        int end = start + size;
+
+        pull(end);
+
+        List<T> values = start < offset || start >= getSize()
+                ? Collections.emptyList()
+                : new ArrayList<>(buffer.subList(start - offset, Math.min(end, getSize()) - offset));
+
+        trim(start - bufferPages * size);
+        return values;
+    }
+
+    @Override
+    public boolean hasNextPage(int page, int size) {
+        if (size <= 0) return false;
+
+        int count = page * size;
+        pull(count + 1);
+
+        return getSize() > count;
+    }
+
+    @Override
+    public int getSize() {
+        return offset + buffer.size();
+    }
+
+    private void pull(int count) {
+        while (getSize() < count && iterator.hasNext()) {
+            buffer.add(iterator.next());
+        }
+    }
+
+    private void trim(int start) {
+        int remove = Math.min(start - offset, buffer.size());
+        if (remove <= 0) return;
+
+        buffer.subList(0, remove).clear();
+        offset += remove;
+    }
+}
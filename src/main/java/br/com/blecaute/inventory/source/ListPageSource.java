@@ -0,0 +1,31 @@
+package br.com.blecaute.inventory.source;
+
+import br.com.blecaute.inventory.util.ListUtil;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * The @{@link PageSource} of a list already in memory.
+ *
+ * @param <T> The type of objects
+ */
+@Getter
+@RequiredArgsConstructor
+public class ListPageSource<T> implements PageSource<T> {
+
+    @NonNull private final List<T> list;
+
+    @Override
+    public @NotNull List<T> getPage(int page, int size) {
+        return size <= 0 ? list : ListUtil.getSublist(list, page, size);
+    }
+
+    @Override
+    public int getSize() {
+        return list.size();
+    }
+}
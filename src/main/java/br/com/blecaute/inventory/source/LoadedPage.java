@@ -0,0 +1,87 @@
+package br.com.blecaute.inventory.source;
+
+import br.com.blecaute.inventory.property.InventoryProperty;
+import lombok.Getter;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A page loaded by @{@link PageLoader} with
+ * the @{@link ItemStack} already rendered for its objects.
+ *
+ * @param <T> The type of objects
+ */
+public class LoadedPage<T> {
+
+    @Getter private final List<T> values;
+    private final Map<T, ItemStack> items = new IdentityHashMap<>();
+
+    @Nullable private InventoryProperty properties;
+
+    /**
+     * Create instance of @{@link LoadedPage}
+     *
+     * @param values The objects of page
+     */
+    public LoadedPage(@NotNull List<T> values) {
+        this.values = values;
+    }
+
+    /**
+     * Get the rendered @{@link ItemStack} of object,
+     * rendering it with the function if it's not rendered yet.
+     *
+     * @param value     The object
+     * @param function  The @{@link Function} to render the object
+     *
+     * @return The @{@link ItemStack}
+     */
+    @Nullable
+    public ItemStack render(@NotNull T value, @NotNull Function<T, ItemStack> function) {
+        ItemStack item = items.get(value);
+        if (item == null && !items.containsKey(value)) {
+            item = function.apply(value);
+            items.put(value, item);
+        }
+
+        return item;
+    }
+
+    /**
+     * Forget the rendered items if they were rendered with other properties.
+     *
+     * @param properties The @{@link InventoryProperty} of the next renders
+     */
+    public void validate(@NotNull InventoryProperty properties) {
+        if (properties.equals(this.properties)) return;
+
+        // the properties are copied, since the inventory may change them later
+        this.properties = properties.clone();
+        this.items.clear();
+    }
+
+    /**
+     * Check if the object is already rendered.
+     *
+     * @param value The object
+     * @return true if it's rendered
+     */
+    public boolean isRendered(@NotNull T value) {
+        return items.containsKey(value);
+    }
+
+    /**
+     * Forget the rendered @{@link ItemStack} of object.
+     *
+     * @param value The object
+     */
+    public void invalidate(@NotNull T value) {
+        items.remove(value);
+    }
+}
@@ -0,0 +1,146 @@
+package br.com.blecaute.inventory.source;
+
+import br.com.blecaute.inventory.InventoryBuilder;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * A list that updates the @{@link InventoryBuilder} displaying it when it changes.
+ *
+ * <p>A change only renders the builders whose current page or page buttons are affected,
+ * and the current page is moved back when it's past the last page. The renders of
+ * a tick are merged, and only the slots that changed are written.</p>
+ *
+ * <p>This list must only be changed in the main thread.</p>
+ *
+ * @param <T> The type of objects
+ */
+public class ObservableList<T> extends AbstractList<T> implements RandomAccess, PageSource<T> {
+
+    private final List<T> list;
+    private final Set<InventoryBuilder<?>> builders = Collections.newSetFromMap(new WeakHashMap<>());
+
+    /**
+     * Create an empty @{@link ObservableList}
+     */
+    public ObservableList() {
+        this(new ArrayList<>());
+    }
+
+    /**
+     * Create instance of @{@link ObservableList} with the objects.
+     *
+     * @param values The objects
+     */
+    public ObservableList(@NonNull Collection<? extends T> values) {
+        this.list = new ArrayList<>(values);
+    }
+
+    /**
+     * Bind the @{@link InventoryBuilder} to the changes of this list.
+     * It's called automatically by the paginated formats.
+     *
+     * @param builder The @{@link InventoryBuilder}
+     */
+    public void bind(@NotNull InventoryBuilder<?> builder) {
+        builders.add(builder);
+    }
+
+    /**
+     * Move the object to another position.
+     *
+     * @param from The current position
+     * @param to   The new position
+     */
+    public void move(int from, int to) {
+        if (from == to) return;
+
+        list.add(to, list.remove(from));
+        changed(Math.min(from, to), list.size());
+    }
+
+    @Override
+    public T get(int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public T set(int index, T element) {
+        T previous = list.set(index, element);
+        changed(index, list.size());
+        return previous;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        list.add(index, element);
+        modCount++;
+        changed(index, list.size() - 1);
+    }
+
+    @Override
+    public T remove(int index) {
+        T previous = list.remove(index);
+        modCount++;
+        changed(index, list.size() + 1);
+        return previous;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) return;
+
+        int size = list.size();
+        list.subList(fromIndex, toIndex).clear();
+        modCount++;
+        changed(fromIndex, size);
+    }
+
+    @Override
+    public @NotNull List<T> getPage(int page, int size) {
+        if (size <= 0) return new ArrayList<>(list);
+
+        int start = Math.max(0, (page - 1) * size);
+        if (start >= list.size()) return Collections.emptyList();
+
+        return new ArrayList<>(list.subList(start, Math.min(list.size(), start + size)));
+    }
+
+    @Override
+    public int getSize() {
+        return list.size();
+    }
+
+    private void changed(int from, int previousSize) {
+        for (InventoryBuilder<?> builder : new ArrayList<>(builders)) {
+            int size = builder.getPageSize();
+            int page = builder.getCurrentPage();
+
+            // the cached pages from the first changed page are always loaded again
+            builder.invalidatePages(size > 0 ? from / size + 1 : 1);
+
+            if (builder.getViewers().isEmpty()) continue;
+
+            if (size > 0) {
+                int end = page * size;
+
+                // after the current page, only the visibility of the next page button can change
+                if (from >= end && (previousSize > end) == (list.size() > end)) continue;
+
+                int last = Math.max(1, (list.size() + size - 1) / size);
+                if (page > last) {
+                    builder.withPage(last);
+                }
+            }
+
+            builder.refresh();
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package br.com.blecaute.inventory.source;
+
+import br.com.blecaute.inventory.InventoryHelper;
+import br.com.blecaute.inventory.render.RenderScheduler;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Class responsible for loading the pages of a @{@link PageSource}.
+ *
+ * <p>The pages of @{@link AsyncPageSource} are loaded outside the main thread and
+ * applied back on it, dropping the results of pages that are no longer requested.</p>
+ *
+ * <p>When the capacity is greater than zero, the loaded pages are kept in a LRU cache
+ * and the pages next to the requested page are loaded in the idle time of the next ticks.</p>
+ *
+ * @param <T> The type of objects
+ */
+public class PageLoader<T> {
+
+    @Getter private final PageSource<T> source;
+
+    private final Map<Integer, LoadedPage<T>> pages = new LinkedHashMap<>(16, 0.75F, true);
+    private final Map<Integer, CompletableFuture<List<T>>> pending = new HashMap<>();
+
+    @Getter private int capacity = 0;
+
+    private int size;
+    private int requested = -1;
+
+    private boolean prefetching;
+    private Runnable callback;
+
+    /**
+     * Create instance of @{@link PageLoader}
+     *
+     * @param source The @{@link PageSource}
+     */
+    public PageLoader(@NotNull PageSource<T> source) {
+        this.source = source;
+    }
+
+    /**
+     * Set the number of pages kept in cache.
+     *
+     * @param capacity The number of pages
+     */
+    public void setCapacity(int capacity) {
+        this.capacity = Math.max(0, capacity);
+        trim();
+    }
+
+    /**
+     * Check if the loaded pages are kept in cache.
+     *
+     * @return true if the capacity is greater than zero.
+     */
+    public boolean isCaching() {
+        return capacity > 0;
+    }
+
+    /**
+     * Get the page.
+     *
+     * @param page      The page
+     * @param size      The number of objects on each page
+     * @param callback  The callback called on the main thread when the asynchronous page is loaded
+     *
+     * @return The @{@link LoadedPage} or null if the page is still loading.
+     */
+    @Nullable
+    public LoadedPage<T> load(int page, int size, @NotNull Runnable callback) {
+        if (this.size != size) {
+            invalidate();
+            this.size = size;
+        }
+
+        this.requested = page;
+        this.callback = callback;
+
+        LoadedPage<T> loaded = pages.get(page);
+        if (loaded != null) return loaded;
+
+        if (!(source instanceof AsyncPageSource)) {
+            loaded = new LoadedPage<>(source.getPage(page, size));
+            if (isCaching()) {
+                store(page, loaded);
+            }
+
+            return loaded;
+        }
+
+        request(page, null);
+        return pages.get(page);
+    }
+
+    /**
+     * Load the pages before and after the requested page, with the
+     * budget left in the @{@link RenderScheduler} after the formats.
+     *
+     * @param render The @{@link Consumer} to render the loaded pages
+     */
+    public void prefetch(@NotNull Consumer<LoadedPage<T>> render) {
+        if (!isCaching() || prefetching) return;
+
+        prefetching = true;
+        InventoryHelper.getScheduler().scheduleIdle(() -> {
+            prefetching = false;
+
+            // the requested page may have changed since the prefetch was scheduled
+            int page = requested;
+            if (page < 1) return;
+
+            if (source.hasNextPage(page, size)) {
+                fetch(page + 1, render);
+            }
+
+            if (page > 1) {
+                fetch(page - 1, render);
+            }
+        });
+    }
+
+    /**
+     * Forget all loaded pages and cancel the pending loads.
+     */
+    public void invalidate() {
+        for (CompletableFuture<List<T>> future : pending.values()) {
+            future.cancel(false);
+        }
+
+        pending.clear();
+        pages.clear();
+    }
+
+    /**
+     * Forget the loaded pages from the page, and cancel their pending loads.
+     *
+     * @param page The first page
+     */
+    public void invalidateFrom(int page) {
+        pending.entrySet().removeIf(entry -> {
+            if (entry.getKey() < page) return false;
+
+            entry.getValue().cancel(false);
+            return true;
+        });
+
+        pages.keySet().removeIf(key -> key >= page);
+    }
+
+    /**
+     * Cancel all pending loads and forget the loaded pages,
+     * including the next pages requested by the prefetch.
+     */
+    public void cancel() {
+        invalidate();
+
+        this.requested = -1;
+        this.callback = null;
+    }
+
+    /**
+     * Forget the loaded page.
+     *
+     * @param page The page
+     */
+    public void invalidate(int page) {
+        pages.remove(page);
+    }
+
+    /**
+     * Forget the rendered @{@link org.bukkit.inventory.ItemStack} of object in all loaded pages.
+     *
+     * @param value The object
+     */
+    public void invalidate(@NotNull T value) {
+        for (LoadedPage<T> loaded : pages.values()) {
+            loaded.invalidate(value);
+        }
+    }
+
+    private void fetch(int page, Consumer<LoadedPage<T>> render) {
+        if (pages.containsKey(page) || pending.containsKey(page)) return;
+
+        if (!(source instanceof AsyncPageSource)) {
+            LoadedPage<T> loaded = new LoadedPage<>(source.getPage(page, size));
+            store(page, loaded);
+            render.accept(loaded);
+
+            return;
+        }
+
+        request(page, render);
+    }
+
+    private void request(int page, @Nullable Consumer<LoadedPage<T>> render) {
+        if (pending.containsKey(page)) return;
+
+        CompletableFuture<List<T>> future = ((AsyncPageSource<T>) source).loadPage(page, size);
+        if (future.isDone() && !future.isCompletedExceptionally()) {
+            store(page, new LoadedPage<>(future.join()));
+            return;
+        }
+
+        pending.put(page, future);
+        future.whenComplete((result, throwable) -> Bukkit.getScheduler().runTask(InventoryHelper.getPlugin(), () -> {
+            if (pending.get(page) != future) return;
+            pending.remove(page);
+
+            if (throwable != null) {
+                InventoryHelper.getPlugin().getLogger().log(Level.WARNING, "Failed to load page " + page, throwable);
+            }
+
+            if (page != requested && !isCaching()) return;
+
+            LoadedPage<T> loaded = new LoadedPage<>(result == null ? Collections.emptyList() : result);
+            store(page, loaded);
+
+            if (page == requested) {
+                callback.run();
+
+            } else if (render != null) {
+                render.accept(loaded);
+            }
+        }));
+    }
+
+    private void store(int page, LoadedPage<T> loaded) {
+        pages.put(page, loaded);
+        trim();
+    }
+
+    private void trim() {
+        Iterator<Integer> iterator = pages.keySet().iterator();
+        while (pages.size() > capacity && iterator.hasNext()) {
+            if (iterator.next() != requested) {
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.blecaute.inventory.source;
+
+import br.com.blecaute.inventory.InventoryBuilder;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * The source of objects of a paginated @{@link InventoryBuilder}.
+ * Only the objects of the requested page need to be loaded.
+ *
+ * @param <T> The type of objects
+ */
+public interface PageSource<T> {
+
+    /**
+     * Get the objects of page.
+     *
+     * @param page The page, starting at 1
+     * @param size The number of objects on each page, or
+     *             a value lower than 1 to get all objects.
+     *
+     * @return The objects of page
+     */
+    @NotNull List<T> getPage(int page, int size);
+
+    /**
+     * Get the number of objects.
+     * This value can be estimated.
+     *
+     * @return The number of objects
+     */
+    int getSize();
+
+    /**
+     * Check if there is a page after this page.
+     *
+     * @param page The page
+     * @param size The number of objects on each page
+     *
+     * @return true if the next page exists.
+     */
+    default boolean hasNextPage(int page, int size) {
+        return getSize() > page * size;
+    }
+
+}
@@ -0,0 +1,180 @@
+package br.com.blecaute.inventory.source;
+
+import br.com.blecaute.inventory.exception.InventoryBuilderException;
+import lombok.Getter;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * The precomputed indexes of a list, shared by all @{@link ViewPageSource} of it.
+ *
+ * <p>It keeps the sorted order of the list for the last used comparators
+ * and the prefix indexes used by the searches.</p>
+ *
+ * <p>The indexes must be invalidated with @{@link #invalidate()} when the list changes,
+ * which also computes again the views of all @{@link ViewPageSource} of it.</p>
+ *
+ * <p>The sorted orders are cached by the identity of @{@link Comparator}, so the
+ * comparators should be kept in constants instead of created on each sort.</p>
+ *
+ * @param <T> The type of objects
+ */
+public class ViewIndex<T> {
+
+    private static final int MAX_ORDERS = 16;
+
+    @Getter private final List<T> list;
+
+    private final Map<Comparator<? super T>, int[]> orders = new LinkedHashMap<>(16, 0.75F, true);
+
+    private final Map<String, Function<T, String>> keys = new HashMap<>();
+    private final Map<String, PrefixIndex> indexes = new HashMap<>();
+
+    /**
+     * The number of times the indexes were invalidated, used by the views to detect the changes.
+     */
+    @Getter private int modifications;
+
+    /**
+     * Create instance of @{@link ViewIndex}
+     *
+     * @param list The list of objects
+     */
+    public ViewIndex(@NonNull List<T> list) {
+        this.list = list;
+    }
+
+    /**
+     * Register a prefix index for searches.
+     *
+     * @param name      The name of index
+     * @param function  The @{@link Function} to get the searchable text of object
+     *
+     * @return This @{@link ViewIndex}
+     */
+    @NotNull
+    public ViewIndex<T> withIndex(@NonNull String name, @NonNull Function<T, String> function) {
+        keys.put(name, function);
+        indexes.remove(name);
+        modifications++;
+        return this;
+    }
+
+    /**
+     * Get the positions of list sorted by the comparator.
+     * The last 16 orders are cached by the identity of comparator.
+     *
+     * @param comparator The @{@link Comparator}
+     * @return The sorted positions
+     */
+    @NotNull
+    public int[] getOrder(@NonNull Comparator<? super T> comparator) {
+        int[] order = orders.get(comparator);
+        if (order != null) return order;
+
+        Integer[] positions = new Integer[list.size()];
+        for (int index = 0; index < positions.length; index++) {
+            positions[index] = index;
+        }
+
+        Arrays.sort(positions, (first, second) -> comparator.compare(list.get(first), list.get(second)));
+
+        order = new int[positions.length];
+        for (int index = 0; index < positions.length; index++) {
+            order[index] = positions[index];
+        }
+
+        orders.put(comparator, order);
+        if (orders.size() > MAX_ORDERS) {
+            Iterator<Comparator<? super T>> iterator = orders.keySet().iterator();
+            iterator.next();
+            iterator.remove();
+        }
+
+        return order;
+    }
+
+    /**
+     * Get the positions of objects whose text in index starts with the prefix, ignoring case.
+     *
+     * @param name   The name of index
+     * @param prefix The prefix
+     *
+     * @return The @{@link BitSet} of positions
+     */
+    @NotNull
+    public BitSet search(@NonNull String name, @NonNull String prefix) {
+        Function<T, String> function = keys.get(name);
+        if (function == null) {
+            throw new InventoryBuilderException("The index " + name + " doesn't exist");
+        }
+
+        return indexes.computeIfAbsent(name, key -> new PrefixIndex(function)).search(prefix.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Forget all indexes, so they are computed again from the list.
+     */
+    public void invalidate() {
+        orders.clear();
+        indexes.clear();
+        modifications++;
+    }
+
+    private class PrefixIndex {
+
+        private final String[] texts;
+        private final int[] positions;
+
+        private PrefixIndex(Function<T, String> function) {
+            String[] values = new String[list.size()];
+            Integer[] sorted = new Integer[list.size()];
+
+            for (int index = 0; index < values.length; index++) {
+                String text = function.apply(list.get(index));
+                values[index] = text == null ? "" : text.toLowerCase(Locale.ROOT);
+                sorted[index] = index;
+            }
+
+            Arrays.sort(sorted, Comparator.comparing(index -> values[index]));
+
+            this.texts = new String[values.length];
+            this.positions = new int[values.length];
+
+            for (int index = 0; index < sorted.length; index++) {
+                texts[index] = values[sorted[index]];
+                positions[index] = sorted[index];
+            }
+        }
+
+        private BitSet search(String prefix) {
+            BitSet result = new BitSet(list.size());
+
+            int start = lowerBound(prefix);
+            for (int index = start; index < texts.length && texts[index].startsWith(prefix); index++) {
+                result.set(positions[index]);
+            }
+
+            return result;
+        }
+
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = texts.length;
+
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (texts[middle].compareTo(prefix) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            return low;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package br.com.blecaute.inventory.source;
+
+import br.com.blecaute.inventory.InventoryBuilder;
+import lombok.Getter;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * The @{@link PageSource} of a filtered and sorted view of a @{@link ViewIndex}.
+ *
+ * <p>Changing the filter, the search or the comparator only computes again
+ * what depends on it, reusing the indexes shared by all views of the list.
+ * Only the objects of the requested page are read from the list.</p>
+ *
+ * <p>After changing the view, call @{@link InventoryBuilder#withPage(int)}
+ * and @{@link InventoryBuilder#refresh()} to render only the visible page,
+ * and @{@link InventoryBuilder#invalidatePages()} if the page cache is enabled.</p>
+ *
+ * @param <T> The type of objects
+ */
+public class ViewPageSource<T> implements PageSource<T> {
+
+    @Getter private final ViewIndex<T> index;
+
+    @Getter @Nullable private Predicate<? super T> filter;
+    @Getter @Nullable private Comparator<? super T> comparator;
+
+    @Getter @Nullable private String searchIndex;
+    @Getter @Nullable private String searchPrefix;
+
+    private BitSet filtered;
+    private BitSet searched;
+
+    private int[] view;
+    private int modifications;
+
+    /**
+     * Create instance of @{@link ViewPageSource}
+     *
+     * @param index The @{@link ViewIndex}
+     */
+    public ViewPageSource(@NonNull ViewIndex<T> index) {
+        this.index = index;
+        this.modifications = index.getModifications();
+    }
+
+    /**
+     * Set the filter of view.
+     *
+     * @param filter The @{@link Predicate}, or null to show all objects
+     * @return This @{@link ViewPageSource}
+     */
+    @NotNull
+    public ViewPageSource<T> filter(@Nullable Predicate<? super T> filter) {
+        this.filter = filter;
+        this.filtered = null;
+        this.view = null;
+        return this;
+    }
+
+    /**
+     * Set the comparator of view.
+     *
+     * @param comparator The @{@link Comparator}, or null to keep the order of list
+     * @return This @{@link ViewPageSource}
+     */
+    @NotNull
+    public ViewPageSource<T> sort(@Nullable Comparator<? super T> comparator) {
+        this.comparator = comparator;
+        this.view = null;
+        return this;
+    }
+
+    /**
+     * Show only the objects whose text in the index starts with the prefix.
+     *
+     * @param name   The name of index in @{@link ViewIndex}
+     * @param prefix The prefix, or null to clear the search
+     *
+     * @return This @{@link ViewPageSource}
+     */
+    @NotNull
+    public ViewPageSource<T> search(@NonNull String name, @Nullable String prefix) {
+        boolean empty = prefix == null || prefix.isEmpty();
+
+        this.searchIndex = empty ? null : name;
+        this.searchPrefix = empty ? null : prefix;
+        this.searched = null;
+        this.view = null;
+        return this;
+    }
+
+    /**
+     * Compute the view again, after the list of @{@link ViewIndex} changes.
+     * The filter, the search and the comparator are kept.
+     *
+     * <p>It's called automatically when @{@link ViewIndex#invalidate()} is called.</p>
+     */
+    public void invalidate() {
+        this.filtered = null;
+        this.searched = null;
+        this.view = null;
+    }
+
+    @Override
+    public @NotNull List<T> getPage(int page, int size) {
+        int[] view = getView();
+        List<T> list = index.getList();
+
+        int start = size <= 0 ? 0 : Math.max(0, (page - 1) * size);
+        int end = size <= 0 ? view.length : Math.min(view.length, start + size);
+
+        List<T> values = new ArrayList<>(Math.max(0, end - start));
+        for (int position = start; position < end; position++) {
+            values.add(list.get(view[position]));
+        }
+
+        return values;
+    }
+
+    @Override
+    public int getSize() {
+        return getView().length;
+    }
+
+    private int[] getView() {
+        if (modifications != index.getModifications()) {
+            this.modifications = index.getModifications();
+            invalidate();
+        }
+
+        if (view != null) return view;
+
+        List<T> list = index.getList();
+
+        if (searched == null && searchIndex != null) {
+            searched = index.search(searchIndex, searchPrefix);
+        }
+
+        if (filtered == null && filter != null) {
+            filtered = new BitSet(list.size());
+            for (int position = 0; position < list.size(); position++) {
+                if (filter.test(list.get(position))) {
+                    filtered.set(position);
+                }
+            }
+        }
+
+        int[] order = comparator == null ? null : index.getOrder(comparator);
+        int[] result = new int[list.size()];
+        int count = 0;
+
+        for (int position = 0; position < list.size(); position++) {
+            int value = order == null ? position : order[position];
+
+            if ((filtered == null || filtered.get(value)) && (searched == null || searched.get(value))) {
+                result[count++] = value;
+            }
+        }
+
+        view = count == result.length ? result : Arrays.copyOf(result, count);
+        return view;
+    }
+}
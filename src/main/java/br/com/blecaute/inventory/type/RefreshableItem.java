@@ -0,0 +1,20 @@
+package br.com.blecaute.inventory.type;
+
+import br.com.blecaute.inventory.InventoryBuilder;
+
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Any class that implements this will have its @{@link ItemStack}
+ * re-evaluated periodically while the @{@link InventoryBuilder} has viewers.
+ */
+public interface RefreshableItem extends InventoryItem {
+
+    /**
+     * The interval between the refreshes of item.
+     *
+     * @return The interval in ticks, 0 or less to not refresh.
+     */
+    int getRefreshInterval();
+
+}
@@ -0,0 +1,16 @@
+package br.com.blecaute.inventory.type;
+
+import br.com.blecaute.inventory.InventoryBuilder;
+
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Any class that implements this can have its @{@link ItemStack}
+ * rendered outside the main thread when the @{@link InventoryBuilder}
+ * uses parallel rendering.
+ *
+ * <p>The item must not access the world or the inventory while rendering.</p>
+ */
+public interface ThreadSafeItem extends InventoryItem {
+
+}
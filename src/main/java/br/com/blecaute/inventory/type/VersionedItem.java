@@ -0,0 +1,23 @@
+package br.com.blecaute.inventory.type;
+
+import br.com.blecaute.inventory.InventoryHelper;
+
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Any class that implements this has its rendered @{@link ItemStack} kept
+ * in the render cache of @{@link InventoryHelper} until its version changes.
+ *
+ * <p>The item is shared by the inventories with equal properties, so the version
+ * must change whenever anything else used to render the item changes.</p>
+ */
+public interface VersionedItem extends InventoryItem {
+
+    /**
+     * The version of object.
+     *
+     * @return The version
+     */
+    long getVersion();
+
+}
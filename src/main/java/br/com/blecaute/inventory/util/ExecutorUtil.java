@@ -0,0 +1,50 @@
+package br.com.blecaute.inventory.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ExecutorUtil {
+
+    /**
+     * Check if the JDK supports virtual threads.
+     *
+     * @return true if it's supported
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return getVirtualThreadFactory() != null;
+    }
+
+    /**
+     * Create the executor of callbacks, using virtual threads when the JDK supports them.
+     * Otherwise, a cached pool of daemon threads is used.
+     *
+     * @return the executor
+     */
+    public static ExecutorService newCallbackExecutor() {
+        Method factory = getVirtualThreadFactory();
+        if (factory != null) {
+            try {
+                return (ExecutorService) factory.invoke(null);
+            } catch (ReflectiveOperationException ignored) {
+                // fallback to platform threads
+            }
+        }
+
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "InventoryHelper-Callback-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static Method getVirtualThreadFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException exception) {
+            return null;
+        }
+    }
+}